@@ -0,0 +1,45 @@
+package com.eventmanagement.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The ticket total computed for every booking in createBooking and the batch booking path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BookingTotalBenchmark {
+    @Param({"49.99", "1250.00"})
+    private String ticketPrice;
+
+    @Param({"1", "4", "25"})
+    private int tickets;
+
+    private BigDecimal price;
+
+    @Setup
+    public void setup() {
+        price = new BigDecimal(ticketPrice);
+    }
+
+    @Benchmark
+    public BigDecimal totalAmount() {
+        return price.multiply(BigDecimal.valueOf(tickets));
+    }
+}
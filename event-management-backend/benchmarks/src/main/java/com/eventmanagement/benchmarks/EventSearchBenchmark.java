@@ -0,0 +1,54 @@
+package com.eventmanagement.benchmarks;
+
+import com.eventmanagement.service.EventSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First-page keyword search over the in-memory index as the catalog grows. Sampled, so the report carries the
+ * latency distribution; read p0.99 for the tail the search endpoint has to stay under.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventSearchBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    private int events;
+
+    // A common term, a two-term intersection, a wide prefix and a rare term
+    @Param({"jazz", "jazz festival", "co", "krakow chess"})
+    private String keyword;
+
+    private EventSearchIndex index;
+
+    @Setup
+    public void setup() {
+        index = new EventSearchIndex();
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "entityManager", Fixtures.searchEntityManager(events));
+        index.rebuild();
+        if (index.size() != events) {
+            throw new IllegalStateException("Indexed " + index.size() + " of " + events + " events");
+        }
+    }
+
+    @Benchmark
+    public EventSearchIndex.SearchResult firstPage() {
+        return index.search(keyword, 0, 20);
+    }
+}
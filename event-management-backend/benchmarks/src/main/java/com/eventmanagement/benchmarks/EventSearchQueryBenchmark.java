@@ -0,0 +1,67 @@
+package com.eventmanagement.benchmarks;
+
+import com.eventmanagement.dto.EventSummary;
+import com.eventmanagement.service.ReadModelService;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Baseline for {@link EventSearchBenchmark}: the same first page through the LIKE query the search endpoint
+ * falls back to while the index is not ready, over the same events in an embedded MySQL-mode database.
+ * Compare the p0.99 rows of both at equal {@code events} and {@code keyword}.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventSearchQueryBenchmark {
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("startDateTime").ascending());
+
+    @Param({"10000", "100000", "1000000"})
+    private int events;
+
+    @Param({"jazz", "jazz festival", "co", "krakow chess"})
+    private String keyword;
+
+    private EntityManagerFactory database;
+    private ReadModelService readModels;
+
+    @Setup
+    public void setup() {
+        database = Fixtures.searchDatabase(events);
+        readModels = new ReadModelService();
+        ReflectionTestUtils.setField(readModels, "entityManager",
+                SharedEntityManagerCreator.createSharedEntityManager(database));
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Page<EventSummary> firstPage() {
+        return readModels.searchEvents(keyword, FIRST_PAGE);
+    }
+}
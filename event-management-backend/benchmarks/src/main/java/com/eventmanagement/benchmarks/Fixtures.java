@@ -0,0 +1,214 @@
+package com.eventmanagement.benchmarks;
+
+import com.eventmanagement.dto.BookingSummary;
+import com.eventmanagement.dto.EventSummary;
+import com.eventmanagement.entity.Booking;
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.entity.User;
+import com.eventmanagement.security.JwtUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Builds the components under test without a Spring context, filling their injected fields directly.
+ */
+final class Fixtures {
+    static final String SECRET = "benchmarkSecretKeyThatIsLongEnoughForHmacSha256Signing";
+    static final long EXPIRATION_MS = 86_400_000L;
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    private Fixtures() {
+    }
+
+    static JwtUtils jwtUtils(int verifiedCacheSize) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", EXPIRATION_MS);
+        ReflectionTestUtils.setField(jwtUtils, "verifiedCacheSize", verifiedCacheSize);
+        ReflectionTestUtils.invokeMethod(jwtUtils, "init");
+        return jwtUtils;
+    }
+
+    static User user() {
+        return new User("alice", "alice@example.com",
+                "$2a$10$N.zmdr9k7uOCQb376NoUnuTJ8iAt6Z5EHsM8lE9lBOsl7iKTVEFDi", "Alice", "Smith");
+    }
+
+    /**
+     * An entity manager whose queries all answer with the given user, standing in for a second-level cache hit;
+     * any other call fails loudly.
+     */
+    static EntityManager entityManager(User user) {
+        TypedQuery<?> query = stub(TypedQuery.class, (proxy, method, args) -> switch (method.getName()) {
+            case "setParameter", "setHint" -> proxy;
+            case "getResultStream" -> Stream.of(user);
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+        return stub(EntityManager.class, (proxy, method, args) -> switch (method.getName()) {
+            case "createQuery" -> query;
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    /**
+     * An entity manager that serves the search index's keyset rebuild query with {@code count} synthetic published
+     * events, page by page; any other call fails loudly.
+     */
+    static EntityManager searchEntityManager(int count) {
+        return stub(EntityManager.class, (proxy, method, args) -> switch (method.getName()) {
+            case "createQuery" -> new SearchRows(count).query();
+            default -> throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    private static final class SearchRows {
+        private static final String[] GENRES = {"jazz", "rock", "techno", "classical", "comedy", "theatre", "poetry",
+                "startup", "cloud", "security", "design", "marathon", "cycling", "yoga", "wine", "food", "film",
+                "photography", "chess", "robotics"};
+        private static final String[] FORMATS = {"festival", "conference", "meetup", "workshop", "night", "summit",
+                "tour", "gala", "fair", "masterclass"};
+        private static final String[] CITIES = {"Berlin", "Lisbon", "Austin", "Toronto", "Melbourne", "Osaka",
+                "Nairobi", "Bogota", "Krakow", "Dublin", "Seoul", "Chicago"};
+        private static final String[] CATEGORIES = {"Music", "Technology", "Sports", "Arts", "Business",
+                "Food and Drink", "Education", "Wellness"};
+
+        private final int count;
+        private long lastId;
+        private int maxResults;
+
+        SearchRows(int count) {
+            this.count = count;
+        }
+
+        TypedQuery<?> query() {
+            return stub(TypedQuery.class, (proxy, method, args) -> switch (method.getName()) {
+                case "setParameter" -> {
+                    if ("lastId".equals(args[0])) {
+                        lastId = (Long) args[1];
+                    }
+                    yield proxy;
+                }
+                case "setMaxResults" -> {
+                    maxResults = (Integer) args[0];
+                    yield proxy;
+                }
+                case "getResultList" -> page();
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+        }
+
+        private List<Object[]> page() {
+            long to = Math.min(count, lastId + maxResults);
+            List<Object[]> rows = new ArrayList<>((int) Math.max(0, to - lastId));
+            for (long id = lastId + 1; id <= to; id++) {
+                rows.add(row(id));
+            }
+            return rows;
+        }
+
+        // Seeded by id, so every run, every page and the seeded database carry the same text:
+        // id, title, description, location, category id, category name, start
+        static Object[] row(long id) {
+            Random random = new Random(id);
+            String genre = GENRES[random.nextInt(GENRES.length)];
+            String format = FORMATS[random.nextInt(FORMATS.length)];
+            String city = CITIES[random.nextInt(CITIES.length)];
+            int category = random.nextInt(CATEGORIES.length);
+            String description = "An evening of " + genre + " with guests from " + city + ", talks, " +
+                    GENRES[random.nextInt(GENRES.length)] + " sessions and a " + format + " afterparty. Edition " +
+                    random.nextInt(1000);
+            return new Object[] {id, city + " " + genre + " " + format + " " + (id % 100), description,
+                    city + " Convention Center", (long) category + 1, CATEGORIES[category],
+                    LocalDateTime.of(2026, 1, 1, 19, 0).plusHours(id % 8760)};
+        }
+    }
+
+    /**
+     * An H2 database in MySQL mode with the entity schema, holding the same {@code count} published events the
+     * search index benchmark indexes, for timing the LIKE query it replaces. Close the factory when done.
+     */
+    static EntityManagerFactory searchDatabase(int count) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:search" + count + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setPackagesToScan("com.eventmanagement.entity");
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+        factory.afterPropertiesSet();
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        LocalDateTime now = LocalDateTime.of(2025, 12, 1, 10, 0);
+        jdbc.update("insert into users (id, username, email, password, first_name, last_name, role, created_at, " +
+                "updated_at) values (1, 'organizer', 'organizer@example.com', 'x', 'Event', 'Organizer', 'ORGANIZER', ?, ?)",
+                now, now);
+        for (int i = 0; i < SearchRows.CATEGORIES.length; i++) {
+            jdbc.update("insert into categories (id, name, description, created_at, updated_at) values (?, ?, '', ?, ?)",
+                    i + 1, SearchRows.CATEGORIES[i], now, now);
+        }
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (long id = 1; id <= count; id++) {
+            Object[] row = SearchRows.row(id);
+            LocalDateTime start = (LocalDateTime) row[6];
+            batch.add(new Object[] {id, row[1], row[2], start, start.plusHours(3), row[3], row[4], now, now});
+            if (batch.size() == SEED_BATCH_SIZE || id == count) {
+                jdbc.batchUpdate("insert into events (id, title, description, start_date_time, end_date_time, " +
+                        "location, max_attendees, ticket_price, status, organizer_id, category_id, created_at, " +
+                        "updated_at) values (?, ?, ?, ?, ?, ?, 500, 49.99, 'PUBLISHED', 1, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        return factory.getObject();
+    }
+
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> "Stub" + type.getSimpleName();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> handler.invoke(proxy, method, args);
+                }));
+    }
+
+    static List<EventSummary> events(int count) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 10, 0);
+        List<EventSummary> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(new EventSummary((long) i, "Event " + i, "A description of event " + i + " long enough to be realistic",
+                    now.plusDays(i), now.plusDays(i).plusHours(3), "Convention Center Hall " + (i % 5), 500,
+                    new BigDecimal("49.99"), "https://cdn.example.com/events/" + i + ".jpg", Event.EventStatus.PUBLISHED,
+                    now.minusDays(30), now.minusDays(1), 1L, "Technology", 3L, "organizer", "Event", "Organizer"));
+        }
+        return events;
+    }
+
+    static List<BookingSummary> bookings(int count) {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 10, 0);
+        List<BookingSummary> bookings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bookings.add(new BookingSummary((long) i, 2, new BigDecimal("99.98"), Booking.BookingStatus.CONFIRMED,
+                    now.minusHours(i), now.minusHours(i), now.minusHours(i), 2L, "alice", "Alice", "Smith",
+                    (long) (i % 20), "Event " + (i % 20), now.plusDays(i % 20), "Convention Center",
+                    new BigDecimal("49.99"), Event.EventStatus.PUBLISHED));
+        }
+        return bookings;
+    }
+}
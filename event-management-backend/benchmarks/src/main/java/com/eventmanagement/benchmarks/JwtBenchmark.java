@@ -0,0 +1,82 @@
+package com.eventmanagement.benchmarks;
+
+import com.eventmanagement.entity.User;
+import com.eventmanagement.security.JwtClaims;
+import com.eventmanagement.security.JwtUtils;
+import com.eventmanagement.security.UserDetailsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification, with and without the verified-token cache, and principal construction.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtBenchmark {
+    private JwtUtils cachingJwtUtils;
+    private JwtUtils verifyingJwtUtils;
+    private User user;
+    private UserDetailsImpl principal;
+    private JwtClaims claims;
+    private String token;
+
+    @Setup
+    public void setup() {
+        cachingJwtUtils = Fixtures.jwtUtils(10_000);
+        // A cache size of zero verifies the signature on every call
+        verifyingJwtUtils = Fixtures.jwtUtils(0);
+        user = Fixtures.user();
+        principal = UserDetailsImpl.build(user);
+        token = cachingJwtUtils.generateJwtToken(principal);
+        claims = cachingJwtUtils.parseJwtToken(token).orElseThrow();
+    }
+
+    @Benchmark
+    public String generateJwtToken() {
+        return cachingJwtUtils.generateJwtToken(principal);
+    }
+
+    @Benchmark
+    public boolean validateJwtTokenCached() {
+        return cachingJwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public boolean validateJwtTokenUncached() {
+        return verifyingJwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public String getUserNameFromJwtTokenCached() {
+        return cachingJwtUtils.getUserNameFromJwtToken(token);
+    }
+
+    @Benchmark
+    public String getUserNameFromJwtTokenUncached() {
+        return verifyingJwtUtils.getUserNameFromJwtToken(token);
+    }
+
+    @Benchmark
+    public UserDetailsImpl buildPrincipalFromUser() {
+        return UserDetailsImpl.build(user);
+    }
+
+    @Benchmark
+    public UserDetailsImpl buildPrincipalFromClaims() {
+        return UserDetailsImpl.build(claims);
+    }
+}
@@ -0,0 +1,58 @@
+package com.eventmanagement.benchmarks;
+
+import com.eventmanagement.dto.BookingSummary;
+import com.eventmanagement.dto.EventSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON rendering of the event and booking list pages as the controllers return them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializationBenchmark {
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<EventSummary> events;
+    private Page<BookingSummary> bookings;
+
+    @Setup
+    public void setup() {
+        // Same defaults as the ObjectMapper Spring Boot configures for the web layer
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        events = new PageImpl<>(Fixtures.events(pageSize), PageRequest.of(0, pageSize), 10_000);
+        bookings = new PageImpl<>(Fixtures.bookings(pageSize), PageRequest.of(0, pageSize), 10_000);
+    }
+
+    @Benchmark
+    public byte[] eventPage() throws Exception {
+        return objectMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] bookingPage() throws Exception {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+}
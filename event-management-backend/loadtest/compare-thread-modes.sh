@@ -0,0 +1,23 @@
+#!/usr/bin/env bash
+# Runs the same load against platform threads and then virtual threads (Java 21) and prints the two reports
+# side by side. Any --name=value arguments are passed to both runs, e.g.
+#   ./compare-thread-modes.sh --clients=400 --durationSeconds=120
+# Reports are kept in target/platform-threads.json and target/virtual-threads.json. The virtual-thread run traces
+# pinned carriers; their stacks are kept in target/virtual-threads-app.log.
+set -euo pipefail
+
+HERE="$(cd "$(dirname "$0")" && pwd)"
+
+# Exit status 2 only means the error budget was exceeded; the comparison is still worth printing
+run() {
+  "$HERE/run-loadtest.sh" "$@" || [ $? -eq 2 ]
+}
+
+SPRING_PROFILES= run --out="$HERE/target/platform-threads.json" "$@"
+APP_JAVA_OPTS="-Djdk.tracePinnedThreads=short" SPRING_PROFILES=virtual-threads \
+  run --out="$HERE/target/virtual-threads.json" "$@"
+cp "$HERE/target/app.log" "$HERE/target/virtual-threads-app.log"
+echo "Pinned carrier traces on virtual threads: $(grep -c '<== monitors' "$HERE/target/virtual-threads-app.log" || true)"
+
+java -jar "$HERE/target/loadtest.jar" \
+  --compare="$HERE/target/platform-threads.json,$HERE/target/virtual-threads.json"
@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+# Boots the backend against the embedded H2 database, seeds it, drives load and writes loadtest-result.json.
+# Any --name=value arguments are passed to the driver, e.g.
+#   ./run-loadtest.sh --clients=100 --durationSeconds=120 --baseline=baseline.json
+# Environment: LOADTEST_USERS, LOADTEST_EVENTS (seed sizes), SPRING_PROFILES (extra profiles, e.g. virtual-threads),
+# PORT (default 8080), APP_JAVA_OPTS (extra JVM options for the backend).
+set -euo pipefail
+
+HERE="$(cd "$(dirname "$0")" && pwd)"
+ROOT="$(cd "$HERE/../.." && pwd)"
+PORT="${PORT:-8080}"
+PROFILES="loadtest${SPRING_PROFILES:+,$SPRING_PROFILES}"
+export LOADTEST_USERS="${LOADTEST_USERS:-1000}"
+export LOADTEST_EVENTS="${LOADTEST_EVENTS:-500}"
+
+# The root pom builds the backend from event-management-backend/src
+mvn -B -q -f "$ROOT/pom.xml" -Ploadtest -DskipTests package
+mvn -B -q -f "$HERE/pom.xml" package
+
+APP_JAR="$(ls "$ROOT"/target/event-management-backend-*.jar | grep -v original | head -n 1)"
+java ${APP_JAVA_OPTS:-} -jar "$APP_JAR" --spring.profiles.active="$PROFILES" --server.port="$PORT" > "$HERE/target/app.log" 2>&1 &
+APP_PID=$!
+trap 'kill $APP_PID 2>/dev/null || true' EXIT
+
+for _ in $(seq 1 120); do
+  if curl -fs "http://localhost:$PORT/actuator/health" > /dev/null; then
+    break
+  fi
+  if ! kill -0 $APP_PID 2>/dev/null; then
+    echo "Backend exited during start-up, see $HERE/target/app.log" >&2
+    exit 1
+  fi
+  sleep 1
+done
+
+java -jar "$HERE/target/loadtest.jar" --baseUrl="http://localhost:$PORT" --users="$LOADTEST_USERS" "$@"
@@ -0,0 +1,358 @@
+package com.eventmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop HTTP load driver. Each client signs in as its own seeded user and then issues a weighted mix
+ * of browse, search, booking and sign-in requests until the run ends. Latency percentiles, throughput and
+ * error rates per operation are written as JSON, and a previous report can be given as a baseline to fail
+ * the run (exit code 2) on regressions.
+ *
+ * <p>Options ({@code --name=value}): baseUrl, clients, warmupSeconds, durationSeconds, users, password,
+ * thinkMs, mix (e.g. {@code browse=30,upcoming=15,detail=15,categories=5,search=15,book=10,login=10}), out,
+ * baseline, maxP99Regression, maxThroughputDrop, maxErrorRate.
+ *
+ * <p>{@code --compare=a.json,b.json} prints two existing reports side by side instead of driving load.
+ */
+public class LoadTestDriver {
+    private static final String[] KEYWORDS = {
+            "conference", "workshop", "summit", "festival", "meetup", "concert", "berlin", "lisbon", "austin", "oslo"};
+
+    enum Operation { BROWSE, UPCOMING, DETAIL, CATEGORIES, SEARCH, BOOK, LOGIN }
+
+    private final Map<String, String> options;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient http;
+    private final String baseUrl;
+    private final int users;
+    private final String password;
+    private final long thinkMs;
+    private final Operation[] wheel;
+    private long eventCount;
+
+    LoadTestDriver(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = option("baseUrl", "http://localhost:8080");
+        this.users = Integer.parseInt(option("users", "1000"));
+        this.password = option("password", "password123");
+        this.thinkMs = Long.parseLong(option("thinkMs", "0"));
+        this.wheel = buildWheel(option("mix", "browse=30,upcoming=15,detail=15,categories=5,search=15,book=10,login=10"));
+        this.http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        if (options.containsKey("compare")) {
+            compare(options.get("compare").split(","));
+            return;
+        }
+        System.exit(new LoadTestDriver(options).run());
+    }
+
+    static void compare(String[] paths) throws IOException {
+        if (paths.length != 2) {
+            throw new IllegalArgumentException("Expected --compare=first.json,second.json");
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode first = objectMapper.readTree(new File(paths[0]));
+        JsonNode second = objectMapper.readTree(new File(paths[1]));
+        System.out.printf("%s (A) vs %s (B), %d vs %d clients%n", paths[0], paths[1],
+                first.path("config").path("clients").asInt(), second.path("config").path("clients").asInt());
+        System.out.printf("%-11s %11s %11s %7s %9s %9s %7s %9s %9s %7s %7s%n", "operation", "A req/s", "B req/s",
+                "B/A", "A p50 ms", "B p50 ms", "B/A", "A p99 ms", "B p99 ms", "B/A", "B err");
+        List<String> operations = new ArrayList<>();
+        first.path("operations").fieldNames().forEachRemaining(operations::add);
+        for (String operation : operations) {
+            printComparison(operation, first.path("operations").path(operation), second.path("operations").path(operation));
+        }
+        printComparison("total", first.path("totals"), second.path("totals"));
+    }
+
+    private static void printComparison(String name, JsonNode a, JsonNode b) {
+        System.out.printf("%-11s %11.1f %11.1f %7s %9.2f %9.2f %7s %9.2f %9.2f %7s %7.4f%n", name,
+                a.path("throughput").asDouble(), b.path("throughput").asDouble(),
+                ratio(b.path("throughput").asDouble(), a.path("throughput").asDouble()),
+                a.path("p50Ms").asDouble(), b.path("p50Ms").asDouble(),
+                ratio(b.path("p50Ms").asDouble(), a.path("p50Ms").asDouble()),
+                a.path("p99Ms").asDouble(), b.path("p99Ms").asDouble(),
+                ratio(b.path("p99Ms").asDouble(), a.path("p99Ms").asDouble()),
+                b.path("errorRate").asDouble());
+    }
+
+    private static String ratio(double b, double a) {
+        return a > 0 ? String.format("%.2f", b / a) : "-";
+    }
+
+    int run() throws Exception {
+        int clients = Integer.parseInt(option("clients", "50"));
+        long warmupSeconds = Long.parseLong(option("warmupSeconds", "10"));
+        long durationSeconds = Long.parseLong(option("durationSeconds", "60"));
+
+        eventCount = Math.max(1, get("/api/events?size=1").path("totalElements").asLong(1));
+        List<String> tokens = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            tokens.add(signIn("user" + (i % users + 1)));
+        }
+        System.out.printf("Driving %d clients against %s (%d events): %ds warm-up, %ds measured%n",
+                clients, baseUrl, eventCount, warmupSeconds, durationSeconds);
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        long measureFrom = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        long until = measureFrom + durationSeconds * 1_000_000_000L;
+        List<Future<Map<Operation, Samples>>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            int client = i;
+            futures.add(pool.submit(() -> drive(client, tokens.get(client), measureFrom, until)));
+        }
+        Map<Operation, Samples> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, Samples>> future : futures) {
+            future.get().forEach((op, samples) -> merged.computeIfAbsent(op, k -> new Samples()).addAll(samples));
+        }
+        pool.shutdown();
+
+        ObjectNode report = report(merged, clients, durationSeconds);
+        File out = new File(option("out", "loadtest-result.json"));
+        objectMapper.writeValue(out, report);
+        System.out.println(objectMapper.writeValueAsString(report.get("totals")));
+        System.out.println("Report written to " + out.getAbsolutePath());
+
+        return gate(report) ? 0 : 2;
+    }
+
+    private Map<Operation, Samples> drive(int client, String token, long measureFrom, long until) throws InterruptedException {
+        Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < until) {
+            Operation op = wheel[random.nextInt(wheel.length)];
+            HttpRequest request = request(op, client, token, random);
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (start >= measureFrom) {
+                samples.computeIfAbsent(op, k -> new Samples()).record(elapsed, status);
+            }
+            if (thinkMs > 0) {
+                Thread.sleep(thinkMs);
+            }
+        }
+        return samples;
+    }
+
+    private HttpRequest request(Operation op, int client, String token, ThreadLocalRandom random) {
+        long eventId = 1 + random.nextLong(eventCount);
+        return switch (op) {
+            case BROWSE -> getRequest("/api/events?page=" + random.nextInt(10) + "&size=10");
+            case UPCOMING -> getRequest("/api/events/upcoming?page=" + random.nextInt(5) + "&size=10");
+            case DETAIL -> getRequest("/api/events/" + eventId);
+            case CATEGORIES -> getRequest("/api/categories");
+            case SEARCH -> getRequest("/api/events/search?keyword=" + KEYWORDS[random.nextInt(KEYWORDS.length)]);
+            case BOOK -> jsonRequest("/api/bookings", "{\"eventId\":" + eventId + ",\"numberOfTickets\":1}")
+                    .header("Authorization", "Bearer " + token)
+                    .build();
+            case LOGIN -> jsonRequest("/api/auth/signin", signInBody("user" + (client % users + 1))).build();
+        };
+    }
+
+    private HttpRequest getRequest(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(10)).GET().build();
+    }
+
+    private HttpRequest.Builder jsonRequest(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private String signInBody(String username) {
+        return "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+    }
+
+    private String signIn(String username) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(jsonRequest("/api/auth/signin", signInBody(username)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Sign-in as " + username + " failed with " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body()).path("accessToken").asText();
+    }
+
+    private JsonNode get(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(getRequest(path), HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(response.body());
+    }
+
+    private ObjectNode report(Map<Operation, Samples> samples, int clients, long durationSeconds) {
+        ObjectNode report = objectMapper.createObjectNode();
+        ObjectNode config = report.putObject("config");
+        config.put("baseUrl", baseUrl);
+        config.put("clients", clients);
+        config.put("durationSeconds", durationSeconds);
+        config.put("mix", option("mix", "default"));
+        config.put("thinkMs", thinkMs);
+
+        Samples all = new Samples();
+        ObjectNode operations = report.putObject("operations");
+        samples.forEach((op, s) -> {
+            operations.set(op.name().toLowerCase(), s.summarize(objectMapper.createObjectNode(), durationSeconds));
+            all.addAll(s);
+        });
+        report.set("totals", all.summarize(objectMapper.createObjectNode(), durationSeconds));
+        return report;
+    }
+
+    /**
+     * @return false if the report breaches the error budget or regresses against the baseline
+     */
+    private boolean gate(ObjectNode report) throws IOException {
+        List<String> violations = new ArrayList<>();
+        double maxErrorRate = Double.parseDouble(option("maxErrorRate", "0.01"));
+        if (report.path("totals").path("errorRate").asDouble() > maxErrorRate) {
+            violations.add("error rate " + report.path("totals").path("errorRate").asDouble() + " > " + maxErrorRate);
+        }
+        String baselinePath = options.get("baseline");
+        if (baselinePath != null) {
+            JsonNode baseline = objectMapper.readTree(new File(baselinePath));
+            double maxP99Regression = Double.parseDouble(option("maxP99Regression", "0.25"));
+            double maxThroughputDrop = Double.parseDouble(option("maxThroughputDrop", "0.15"));
+            report.path("operations").fields().forEachRemaining(entry -> {
+                JsonNode before = baseline.path("operations").path(entry.getKey());
+                if (before.isMissingNode()) {
+                    return;
+                }
+                double p99 = entry.getValue().path("p99Ms").asDouble();
+                double p99Before = before.path("p99Ms").asDouble();
+                if (p99Before > 0 && p99 > p99Before * (1 + maxP99Regression)) {
+                    violations.add(entry.getKey() + " p99 " + p99 + " ms vs baseline " + p99Before + " ms");
+                }
+                double throughput = entry.getValue().path("throughput").asDouble();
+                double throughputBefore = before.path("throughput").asDouble();
+                if (throughput < throughputBefore * (1 - maxThroughputDrop)) {
+                    violations.add(entry.getKey() + " throughput " + throughput + "/s vs baseline " + throughputBefore + "/s");
+                }
+            });
+        }
+        violations.forEach(v -> System.out.println("REGRESSION: " + v));
+        return violations.isEmpty();
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private static Operation[] buildWheel(String mix) {
+        List<Operation> wheel = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] kv = part.trim().split("=");
+            Operation op = Operation.valueOf(kv[0].trim().toUpperCase());
+            for (int i = 0; i < Integer.parseInt(kv[1].trim()); i++) {
+                wheel.add(op);
+            }
+        }
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("Empty operation mix");
+        }
+        return wheel.toArray(new Operation[0]);
+    }
+
+    /**
+     * Latencies of one operation. Sold-out (409), throttled (429) and shed (503) responses are the server
+     * protecting itself and are counted apart from errors.
+     */
+    static final class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+        private long shed;
+
+        void record(long elapsedNanos, int status) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = elapsedNanos;
+            if (status == 409 || status == 429 || status == 503) {
+                shed++;
+            } else if (status < 200 || status >= 400) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+            errors += other.errors;
+            shed += other.shed;
+        }
+
+        ObjectNode summarize(ObjectNode node, long durationSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            long sum = 0;
+            for (long n : sorted) {
+                sum += n;
+            }
+            node.put("requests", count);
+            node.put("throughput", round((double) count / durationSeconds));
+            node.put("meanMs", count == 0 ? 0 : round(sum / (double) count / 1e6));
+            node.put("p50Ms", percentile(sorted, 0.50));
+            node.put("p90Ms", percentile(sorted, 0.90));
+            node.put("p99Ms", percentile(sorted, 0.99));
+            node.put("p999Ms", percentile(sorted, 0.999));
+            node.put("maxMs", count == 0 ? 0 : round(sorted[count - 1] / 1e6));
+            node.put("errors", errors);
+            node.put("errorRate", count == 0 ? 0 : round((double) errors / count));
+            node.put("shed", shed);
+            return node;
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return round(sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 1000) / 1000.0;
+        }
+    }
+}
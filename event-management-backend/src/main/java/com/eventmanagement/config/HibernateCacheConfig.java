@@ -0,0 +1,15 @@
+package com.eventmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Second-level and query cache defaults (in-process Ehcache through JCache, regions in ehcache.xml).
+ * Being a {@code @PropertySource}, every value can still be overridden from application.properties.
+ */
+@Configuration
+@PropertySource("classpath:hibernate-cache.properties")
+public class HibernateCacheConfig {
+    /** Query-cache region for user lookups by username or email */
+    public static final String USER_QUERIES = "query.users";
+}
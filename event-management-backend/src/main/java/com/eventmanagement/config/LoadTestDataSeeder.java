@@ -0,0 +1,108 @@
+package com.eventmanagement.config;
+
+import com.eventmanagement.entity.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds the embedded load-test database with categories, users and published upcoming events.
+ * Runs before the ApplicationReadyEvent listeners, so the search and upcoming indexes are built from this data.
+ * Every user is named user{n} with the shared password from loadtest.seed.password; the event organizer is
+ * "organizer" and the admin "admin".
+ */
+@Component
+@Profile("loadtest")
+public class LoadTestDataSeeder implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    private static final String[] CATEGORIES = {
+            "Technology", "Business", "Education", "Entertainment", "Sports", "Health & Wellness", "Music", "Food",
+            "Art", "Travel"};
+    private static final String[] WORDS = {
+            "conference", "workshop", "summit", "festival", "meetup", "concert", "marathon", "expo", "seminar",
+            "hackathon", "gala", "tasting", "retreat", "masterclass", "tournament", "showcase"};
+    private static final String[] CITIES = {
+            "Berlin", "Lisbon", "Austin", "Toronto", "Singapore", "Melbourne", "Nairobi", "Oslo", "Seoul", "Lima"};
+
+    @Value("${loadtest.seed.users:1000}")
+    private int users;
+
+    @Value("${loadtest.seed.events:500}")
+    private int events;
+
+    @Value("${loadtest.seed.maxAttendees:100000}")
+    private int maxAttendees;
+
+    @Value("${loadtest.seed.password:password123}")
+    private String password;
+
+    @Value("${loadtest.seed.randomSeed:42}")
+    private long randomSeed;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        Random random = new Random(randomSeed);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // One hash shared by every account; hashing each password would dominate start-up
+        String hash = passwordEncoder.encode(password);
+
+        List<Object[]> categoryRows = new ArrayList<>();
+        for (String name : CATEGORIES) {
+            categoryRows.add(new Object[] {name, name + " events", now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (name, description, created_at, updated_at) VALUES (?, ?, ?, ?)", categoryRows);
+
+        List<Object[]> userRows = new ArrayList<>();
+        userRows.add(new Object[] {"admin", "admin@loadtest.local", hash, "Admin", "User", "ADMIN", now, now});
+        userRows.add(new Object[] {"organizer", "organizer@loadtest.local", hash, "Event", "Organizer", "ORGANIZER", now, now});
+        for (int i = 1; i <= users; i++) {
+            userRows.add(new Object[] {"user" + i, "user" + i + "@loadtest.local", hash, "User", "No" + i, "USER", now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, email, password, first_name, last_name, role, " +
+                "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", userRows);
+
+        Long organizerId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'organizer'", Long.class);
+        List<Long> categoryIds = jdbcTemplate.queryForList("SELECT id FROM categories ORDER BY id", Long.class);
+        List<Object[]> eventRows = new ArrayList<>();
+        for (int i = 1; i <= events; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            String city = CITIES[random.nextInt(CITIES.length)];
+            LocalDateTime startAt = LocalDateTime.now().plusDays(1 + random.nextInt(180)).withNano(0);
+            eventRows.add(new Object[] {
+                    city + " " + word + " " + i,
+                    "A " + word + " in " + city + " for everyone interested in " + CATEGORIES[i % CATEGORIES.length],
+                    Timestamp.valueOf(startAt), Timestamp.valueOf(startAt.plusHours(4)), city,
+                    maxAttendees, BigDecimal.valueOf(500 + random.nextInt(20000), 2),
+                    Event.EventStatus.PUBLISHED.name(), organizerId, categoryIds.get(i % categoryIds.size()), now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO events (title, description, start_date_time, end_date_time, location, " +
+                "max_attendees, ticket_price, status, organizer_id, category_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", eventRows);
+
+        log.info("Seeded {} categories, {} users and {} events for load testing in {} ms",
+                categoryRows.size(), userRows.size(), eventRows.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,13 @@
+package com.eventmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Actuator/Micrometer defaults (Prometheus endpoint, request histograms, Hibernate statistics).
+ * Being a {@code @PropertySource}, every value can still be overridden from application.properties.
+ */
+@Configuration
+@PropertySource("classpath:metrics-defaults.properties")
+public class MetricsConfig {
+}
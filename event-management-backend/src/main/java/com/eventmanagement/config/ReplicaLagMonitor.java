@@ -0,0 +1,81 @@
+package com.eventmanagement.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.ResultSetMetaData;
+
+/**
+ * Polls the replica's replication status and takes it out of rotation while it lags more than the allowed
+ * number of seconds, while replication is stopped, or while the replica cannot be reached.
+ */
+public class ReplicaLagMonitor {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+
+    private volatile boolean usable;
+    private volatile Long lastLagSeconds;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, String lagColumn, long maxLagSeconds) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.jdbcTemplate.setQueryTimeout(2);
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public Long getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${datasource.replica.lagCheckMs:2000}")
+    public void check() {
+        boolean wasUsable = usable;
+        try {
+            Long lag = jdbcTemplate.query(lagQuery, lagExtractor());
+            lastLagSeconds = lag;
+            usable = lag != null && lag <= maxLagSeconds;
+        } catch (DataAccessException e) {
+            lastLagSeconds = null;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica status check failed: {}", e.getMessage());
+            }
+        }
+        if (wasUsable != usable) {
+            log.info("Replica {} rotation (lag {} s, max {} s)",
+                    usable ? "back in" : "taken out of", lastLagSeconds, maxLagSeconds);
+        }
+    }
+
+    // No status row means the server is not replicating (e.g. a standalone copy), which counts as no lag;
+    // a null lag column means replication is stopped
+    private ResultSetExtractor<Long> lagExtractor() {
+        return rs -> {
+            if (!rs.next()) {
+                return 0L;
+            }
+            ResultSetMetaData meta = rs.getMetaData();
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                if (lagColumn.equalsIgnoreCase(meta.getColumnLabel(i))) {
+                    long lag = rs.getLong(i);
+                    return rs.wasNull() ? null : lag;
+                }
+            }
+            return null;
+        };
+    }
+}
@@ -5,18 +5,32 @@ import com.eventmanagement.dto.MessageResponse;
 import com.eventmanagement.dto.SignupRequest;
 import com.eventmanagement.entity.User;
 import com.eventmanagement.repository.UserRepository;
+import com.eventmanagement.security.HashingOverloadException;
 import com.eventmanagement.security.JwtUtils;
+import com.eventmanagement.security.LoginThrottle;
+import com.eventmanagement.security.PasswordHashingExecutor;
+import com.eventmanagement.security.TokenRevocationList;
 import com.eventmanagement.security.UserDetailsImpl;
+import com.eventmanagement.service.UserImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.Map;
+
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
 @RequestMapping("/api/auth")
@@ -33,14 +47,36 @@ public class AuthController {
     @Autowired
     JwtUtils jwtUtils;
 
+    @Autowired
+    TokenRevocationList revocationList;
+
+    @Autowired
+    LoginThrottle loginThrottle;
+
+    @Autowired
+    PasswordHashingExecutor hashingExecutor;
+
+    @Autowired
+    UserImportService userImportService;
+
     @PostMapping("/signin")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager
-                .authenticate(new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginRequest loginRequest,
+                                              HttpServletRequest request) {
+        String account = loginThrottle.key(loginRequest.getUsername());
+        long retryAfter = loginThrottle.tryAcquire(account, request.getRemoteAddr());
+        if (retryAfter > 0) {
+            return retryLater(HttpStatus.TOO_MANY_REQUESTS, retryAfter, "Error: Too many failed sign-in attempts, please retry later");
+        }
+        Authentication authentication;
+        try {
+            authentication = authenticate(loginRequest, account, request.getRemoteAddr());
+        } catch (HashingOverloadException e) {
+            return retryLater(HttpStatus.SERVICE_UNAVAILABLE, e.getRetryAfterSeconds(), "Error: Sign-in is busy, please retry shortly");
+        }
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
-        String jwt = jwtUtils.generateJwtToken(userDetails.getUsername());
+        String jwt = jwtUtils.generateJwtToken(userDetails);
 
         return ResponseEntity.ok(new com.eventmanagement.dto.JwtResponse(
                 jwt,
@@ -52,9 +88,19 @@ public class AuthController {
     }
 
     @PostMapping("/admin/signin")
-    public ResponseEntity<?> authenticateAdmin(@Valid @RequestBody LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager
-                .authenticate(new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+    public ResponseEntity<?> authenticateAdmin(@Valid @RequestBody LoginRequest loginRequest,
+                                               HttpServletRequest request) {
+        String account = loginThrottle.key(loginRequest.getUsername());
+        long retryAfter = loginThrottle.tryAcquire(account, request.getRemoteAddr());
+        if (retryAfter > 0) {
+            return retryLater(HttpStatus.TOO_MANY_REQUESTS, retryAfter, "Error: Too many failed sign-in attempts, please retry later");
+        }
+        Authentication authentication;
+        try {
+            authentication = authenticate(loginRequest, account, request.getRemoteAddr());
+        } catch (HashingOverloadException e) {
+            return retryLater(HttpStatus.SERVICE_UNAVAILABLE, e.getRetryAfterSeconds(), "Error: Sign-in is busy, please retry shortly");
+        }
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
@@ -69,7 +115,7 @@ public class AuthController {
             return ResponseEntity.status(403).body(new MessageResponse("Admin access required"));
         }
 
-        String jwt = jwtUtils.generateJwtToken(userDetails.getUsername());
+        String jwt = jwtUtils.generateJwtToken(userDetails);
 
         return ResponseEntity.ok(new com.eventmanagement.dto.JwtResponse(
                 jwt,
@@ -94,10 +140,17 @@ public class AuthController {
                     .body(new MessageResponse("Error: Email is already in use!"));
         }
 
+        String encodedPassword;
+        try {
+            encodedPassword = encoder.encode(signUpRequest.getPassword());
+        } catch (HashingOverloadException e) {
+            return retryLater(HttpStatus.SERVICE_UNAVAILABLE, e.getRetryAfterSeconds(), "Error: Sign-up is busy, please retry shortly");
+        }
+
         // Create new user's account
         User user = new User(signUpRequest.getUsername(),
                 signUpRequest.getEmail(),
-                encoder.encode(signUpRequest.getPassword()),
+                encodedPassword,
                 signUpRequest.getFirstName(),
                 signUpRequest.getLastName());
         
@@ -107,4 +160,56 @@ public class AuthController {
 
         return ResponseEntity.ok(new MessageResponse("User registered successfully!"));
     }
+
+    // Body is text/csv with a header row, or a JSON array / newline-delimited JSON of signup requests
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> importUsers(HttpServletRequest request) throws IOException {
+        MediaType contentType = request.getContentType() != null
+                ? MediaType.parseMediaType(request.getContentType()) : MediaType.APPLICATION_JSON;
+        UserImportService.Format format = new MediaType("text", "csv").includes(contentType)
+                ? UserImportService.Format.CSV : UserImportService.Format.JSON;
+        try {
+            return ResponseEntity.ok(userImportService.importUsers(request.getInputStream(), format));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+        }
+    }
+
+    // Invalidates every token already issued to the user, e.g. one that leaked; role and password changes and
+    // account removal revoke automatically (CredentialChangeListener)
+    @PostMapping("/revoke/{userId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> revokeUserTokens(@PathVariable Long userId) {
+        revocationList.revokeUser(userId);
+        return ResponseEntity.ok(new MessageResponse("Tokens revoked for user " + userId));
+    }
+
+    @GetMapping("/hashing-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getHashingStats() {
+        return ResponseEntity.ok(hashingExecutor.getStats());
+    }
+
+    // The throttle already counted this attempt as a failure; it is cleared on success and taken back when the
+    // password was never checked
+    private Authentication authenticate(LoginRequest loginRequest, String account, String clientAddress) {
+        try {
+            Authentication authentication = authenticationManager
+                    .authenticate(new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
+            loginThrottle.recordSuccess(account, clientAddress);
+            return authentication;
+        } catch (BadCredentialsException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            loginThrottle.release(account, clientAddress);
+            throw e;
+        }
+    }
+
+    private static ResponseEntity<?> retryLater(HttpStatus status, long retryAfterSeconds, String message) {
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new MessageResponse(message));
+    }
 }
@@ -1,48 +1,121 @@
 package com.eventmanagement.controller;
 
+import com.eventmanagement.dto.BatchBookingResult;
+import com.eventmanagement.dto.BookingSummary;
+import com.eventmanagement.dto.BulkBookingRequest;
+import com.eventmanagement.dto.CursorPage;
+import com.eventmanagement.dto.MessageResponse;
+import com.eventmanagement.dto.QueueStatusResponse;
 import com.eventmanagement.entity.Booking;
 import com.eventmanagement.entity.Event;
 import com.eventmanagement.entity.User;
 import com.eventmanagement.repository.EventRepository;
 import com.eventmanagement.repository.UserRepository;
 import com.eventmanagement.security.UserDetailsImpl;
+import com.eventmanagement.service.BatchBookingService;
+import com.eventmanagement.service.BookingAdmissionService;
+import com.eventmanagement.service.BookingExportService;
 import com.eventmanagement.service.BookingService;
+import com.eventmanagement.service.BookingWriteService;
+import com.eventmanagement.service.BulkBookingService;
+import com.eventmanagement.service.EventResponseCache;
+import com.eventmanagement.service.KeysetPaginationService;
+import com.eventmanagement.service.ReadModelService;
+import com.eventmanagement.service.ReadYourWritesTracker;
+import com.eventmanagement.service.SeatHoldService;
+import com.eventmanagement.service.SeatInventoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
 @RequestMapping("/api/bookings")
 public class BookingController {
+    static final String HOLD_EXPIRES_HEADER = "X-Hold-Expires-At";
 
     @Autowired
     private BookingService bookingService;
 
+    @Autowired
+    private BookingWriteService bookingWrites;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private SeatInventoryService seatInventory;
+
+    @Autowired
+    private SeatHoldService seatHolds;
+
+    @Autowired
+    private BookingAdmissionService admissionService;
+
+    @Autowired
+    private BatchBookingService batchBookingService;
+
+    @Autowired
+    private BulkBookingService bulkBookingService;
+
+    @Autowired
+    private KeysetPaginationService keysetPagination;
+
+    @Autowired
+    private ReadModelService readModels;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BookingExportService bookingExportService;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWrites;
+
+    @Autowired
+    private EventResponseCache eventCache;
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<Booking>> getAllBookings(
+    public ResponseEntity<?> getAllBookings(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            try {
+                CursorPage<BookingSummary> bookings = keysetPagination.seekBookings(null, Map.of(),
+                        "bookingDate", true, cursor, size);
+                return ResponseEntity.ok(bookings);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+            }
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by("bookingDate").descending());
-        Page<Booking> bookings = bookingService.getAllBookings(pageable);
+        Page<BookingSummary> bookings = readModels.getAllBookings(pageable);
         return ResponseEntity.ok(bookings);
     }
 
@@ -54,29 +127,112 @@ public class BookingController {
                      .orElse(ResponseEntity.notFound().build());
     }
 
+    // A ResponseEntity, or a CompletableFuture of one while admission control queues bookings; MVC picks the
+    // handler from the returned value, so only queued bookings pay for an async dispatch
     @PostMapping
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('ORGANIZER')")
-    public ResponseEntity<Booking> createBooking(@RequestBody BookingRequest bookingRequest, Authentication authentication) {
+    public Object createBooking(@RequestBody BookingRequest bookingRequest, Authentication authentication) {
+        if (bookingRequest.getEventId() == null || bookingRequest.getNumberOfTickets() == null || bookingRequest.getNumberOfTickets() <= 0) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: eventId and a positive numberOfTickets are required"));
+        }
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        // Measured from arrival, so time spent waiting for admission is included
+        Timer.Sample sample = Timer.start(meterRegistry);
+        if (!admissionService.isEnabled()) {
+            ResponseEntity<?> response = placeBooking(bookingRequest, userDetails);
+            recordCreate(sample, String.valueOf(response.getStatusCode().value()));
+            return response;
+        }
+        return admissionService.submit(bookingRequest.getEventId(), userDetails.getId(),
+                        () -> placeBooking(bookingRequest, userDetails))
+                .whenComplete((response, error) ->
+                        recordCreate(sample, error != null ? "error" : String.valueOf(response.getStatusCode().value())));
+    }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('ORGANIZER')")
+    public ResponseEntity<?> createBookings(@RequestBody List<BookingRequest> bookingRequests,
+                                            @RequestParam(defaultValue = "true") boolean allOrNothing,
+                                            Authentication authentication) {
+        if (bookingRequests.isEmpty() || bookingRequests.size() > batchBookingService.getMaxItems()) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: A batch must contain 1 to " + batchBookingService.getMaxItems() + " bookings"));
+        }
+        for (int i = 0; i < bookingRequests.size(); i++) {
+            if (bookingRequests.get(i) == null || bookingRequests.get(i).getEventId() == null) {
+                return ResponseEntity.badRequest()
+                        .body(new MessageResponse("Error: Booking " + i + " has no eventId"));
+            }
+        }
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        List<BatchBookingResult> results = batchBookingService.createBookings(
+                userDetails.getId(),
+                bookingRequests.stream().map(BookingRequest::getEventId).toList(),
+                bookingRequests.stream().map(BookingRequest::getNumberOfTickets).toList(),
+                allOrNothing);
+        readYourWrites.markWrite(userDetails.getId());
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/queue/{eventId}")
+    public ResponseEntity<QueueStatusResponse> getQueueStatus(@PathVariable Long eventId, Authentication authentication) {
+        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        return ResponseEntity.ok(admissionService.getQueueStatus(eventId, userDetails.getId()));
+    }
+
+    private void recordCreate(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("bookings.create")
+                .description("Single booking creation, including admission queueing")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private ResponseEntity<?> placeBooking(BookingRequest bookingRequest, UserDetailsImpl userDetails) {
         User user = userRepository.findById(userDetails.getId()).orElseThrow();
         Event event = eventRepository.findById(bookingRequest.getEventId()).orElseThrow();
-        
-        BigDecimal totalAmount = event.getTicketPrice().multiply(BigDecimal.valueOf(bookingRequest.getNumberOfTickets()));
-        
-        Booking booking = new Booking(bookingRequest.getNumberOfTickets(), totalAmount, user, event);
-        Booking createdBooking = bookingService.createBooking(booking);
-        return ResponseEntity.ok(createdBooking);
+        int tickets = bookingRequest.getNumberOfTickets();
+
+        if (!seatInventory.tryReserve(event, tickets)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse("Error: Not enough seats available"));
+        }
+
+        BigDecimal totalAmount = event.getTicketPrice().multiply(BigDecimal.valueOf(tickets));
+
+        Booking createdBooking;
+        try {
+            Booking booking = new Booking(tickets, totalAmount, user, event);
+            createdBooking = bookingWrites.createBooking(booking);
+        } catch (RuntimeException e) {
+            seatInventory.release(event, tickets, false);
+            throw e;
+        }
+        readYourWrites.markWrite(user.getId());
+        seatInventory.commit(event, tickets);
+        long holdExpiresAt = seatHolds.place(createdBooking);
+        return ResponseEntity.ok()
+                .header(HOLD_EXPIRES_HEADER, Instant.ofEpochMilli(holdExpiresAt).toString())
+                .body(createdBooking);
     }
 
     @PutMapping("/{id}/confirm")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Booking> confirmBooking(@PathVariable Long id) {
+    public ResponseEntity<?> confirmBooking(@PathVariable Long id) {
         Optional<Booking> bookingOptional = bookingService.getBookingById(id);
         if (bookingOptional.isPresent()) {
             Booking booking = bookingOptional.get();
+            if (seatHolds.isExpired(id)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse("Error: Booking hold has expired"));
+            }
+            // The hold ends only once the confirmation committed; a failed write leaves it to expire as usual
+            if (!bookingWrites.confirmBooking(id)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse("Error: Booking is no longer pending"));
+            }
+            seatHolds.release(id);
+            readYourWrites.markWrite(booking.getUser().getId());
+            eventCache.invalidate(booking.getEvent().getId());
             booking.setStatus(Booking.BookingStatus.CONFIRMED);
-            Booking updatedBooking = bookingService.updateBooking(booking);
-            return ResponseEntity.ok(updatedBooking);
+            return ResponseEntity.ok(booking);
         }
         return ResponseEntity.notFound().build();
     }
@@ -87,33 +243,105 @@ public class BookingController {
         Optional<Booking> bookingOptional = bookingService.getBookingById(id);
         if (bookingOptional.isPresent()) {
             Booking booking = bookingOptional.get();
+            seatHolds.release(id);
+            // Only the cancel that changed the row returns the seats; a concurrent cancel or the expiry sweep
+            // finds the booking already cancelled
+            if (bookingWrites.cancelBooking(id)) {
+                readYourWrites.markWrite(booking.getUser().getId());
+                seatInventory.release(booking.getEvent(), booking.getNumberOfTickets(), true);
+            }
             booking.setStatus(Booking.BookingStatus.CANCELLED);
-            Booking updatedBooking = bookingService.updateBooking(booking);
-            return ResponseEntity.ok(updatedBooking);
+            return ResponseEntity.ok(booking);
         }
         return ResponseEntity.notFound().build();
     }
 
+    @PutMapping("/bulk/confirm")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> confirmBookings(@RequestBody BulkBookingRequest request) {
+        List<Long> ids = resolveBulkIds(request);
+        if (ids == null) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: Provide ids or eventId with currentStatus"));
+        }
+        return ResponseEntity.ok(bulkBookingService.confirm(ids));
+    }
+
+    @PutMapping("/bulk/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> cancelBookings(@RequestBody BulkBookingRequest request) {
+        List<Long> ids = resolveBulkIds(request);
+        if (ids == null) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: Provide ids or eventId with currentStatus"));
+        }
+        return ResponseEntity.ok(bulkBookingService.cancel(ids));
+    }
+
+    private List<Long> resolveBulkIds(BulkBookingRequest request) {
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            return request.getIds();
+        }
+        if (request.getEventId() != null && request.getCurrentStatus() != null) {
+            return bulkBookingService.findIds(request.getEventId(), request.getCurrentStatus());
+        }
+        return null;
+    }
+
     @GetMapping("/my-bookings")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('ORGANIZER')")
-    public ResponseEntity<List<Booking>> getMyBookings(Authentication authentication) {
+    public ResponseEntity<?> getMyBookings(Authentication authentication,
+                                           @RequestParam(required = false) Integer page,
+                                           @RequestParam(required = false) Integer size,
+                                           @RequestParam(required = false) String since) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
-        User user = userRepository.findById(userDetails.getId()).orElseThrow();
-        List<Booking> bookings = bookingService.getBookingsByUser(user);
+        // Sync mode: pass since= (empty) for the first sync, then the watermark of each response
+        if (since != null) {
+            try {
+                return ResponseEntity.ok(readModels.syncBookingsByUser(userDetails.getId(), since,
+                        size != null ? size : 200));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+            }
+        }
+        if (page != null) {
+            Pageable pageable = PageRequest.of(page, size != null ? size : 10,
+                    Sort.by("bookingDate").descending());
+            return ResponseEntity.ok(readModels.getBookingsByUser(userDetails.getId(), pageable));
+        }
+        List<BookingSummary> bookings = readModels.getBookingsByUser(userDetails.getId());
         return ResponseEntity.ok(bookings);
     }
 
     @GetMapping("/event/{eventId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<Booking>> getBookingsByEvent(@PathVariable Long eventId) {
-        Optional<Event> eventOptional = eventRepository.findById(eventId);
-        if (eventOptional.isPresent()) {
-            List<Booking> bookings = bookingService.getBookingsByEvent(eventOptional.get());
+    public ResponseEntity<List<BookingSummary>> getBookingsByEvent(@PathVariable Long eventId) {
+        if (eventRepository.existsById(eventId)) {
+            List<BookingSummary> bookings = readModels.getBookingsByEvent(eventId);
             return ResponseEntity.ok(bookings);
         }
         return ResponseEntity.notFound().build();
     }
 
+    @GetMapping("/event/{eventId}/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportBookingsByEvent(@PathVariable Long eventId,
+                                                                       @RequestParam(defaultValue = "ndjson") String format) {
+        if (!eventRepository.existsById(eventId)) {
+            return ResponseEntity.notFound().build();
+        }
+        BookingExportService.Format exportFormat = "csv".equalsIgnoreCase(format)
+                ? BookingExportService.Format.CSV : BookingExportService.Format.NDJSON;
+        MediaType contentType = exportFormat == BookingExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : new MediaType("application", "x-ndjson");
+        String filename = "event-" + eventId + "-bookings." + exportFormat.name().toLowerCase();
+
+        StreamingResponseBody body = out -> bookingExportService.export(eventId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
     // Inner class for booking request
     public static class BookingRequest {
         private Long eventId;
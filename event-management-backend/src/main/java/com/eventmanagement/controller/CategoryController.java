@@ -1,13 +1,23 @@
 package com.eventmanagement.controller;
 
 import com.eventmanagement.entity.Category;
+import com.eventmanagement.service.CachedJson;
+import com.eventmanagement.service.CategoryCatalogCache;
 import com.eventmanagement.service.CategoryService;
+import com.eventmanagement.service.EventResponseCache;
+import com.eventmanagement.service.EventSearchIndex;
+import com.eventmanagement.service.UpcomingEventsIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.time.Duration;
 import java.util.Optional;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -18,23 +28,53 @@ public class CategoryController {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private CategoryCatalogCache catalogCache;
+
+    @Autowired
+    private EventSearchIndex searchIndex;
+
+    @Autowired
+    private EventResponseCache eventCache;
+
+    @Autowired
+    private UpcomingEventsIndex upcomingIndex;
+
+    @Value("${categories.cache.maxAgeSeconds:60}")
+    private long maxAgeSeconds;
+
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
-        List<Category> categories = categoryService.getAllCategories();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<byte[]> getAllCategories(WebRequest webRequest) {
+        return cachedResponse(catalogCache.getAll(), webRequest);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategoryById(@PathVariable Long id) {
-        Optional<Category> category = categoryService.getCategoryById(id);
-        return category.map(ResponseEntity::ok)
-                      .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<byte[]> getCategoryById(@PathVariable Long id, WebRequest webRequest) {
+        CachedJson entry = catalogCache.getById(id);
+        if (entry == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return cachedResponse(entry, webRequest);
+    }
+
+    // A matching If-None-Match is answered with 304 before anything is written
+    private ResponseEntity<byte[]> cachedResponse(CachedJson entry, WebRequest webRequest) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+        if (webRequest.checkNotModified(entry.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.getEtag()).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(entry.getEtag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.getJson());
     }
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Category> createCategory(@RequestBody Category category) {
         Category createdCategory = categoryService.createCategory(category);
+        catalogCache.rebuild();
         return ResponseEntity.ok(createdCategory);
     }
 
@@ -48,6 +88,7 @@ public class CategoryController {
             category.setDescription(categoryDetails.getDescription());
             
             Category updatedCategory = categoryService.updateCategory(category);
+            categoryChanged(id);
             return ResponseEntity.ok(updatedCategory);
         }
         return ResponseEntity.notFound().build();
@@ -58,8 +99,17 @@ public class CategoryController {
     public ResponseEntity<?> deleteCategory(@PathVariable Long id) {
         if (categoryService.getCategoryById(id).isPresent()) {
             categoryService.deleteCategory(id);
+            categoryChanged(id);
             return ResponseEntity.ok().build();
         }
         return ResponseEntity.notFound().build();
     }
+
+    // Events embed their category's name in cached responses and both indexes
+    private void categoryChanged(Long id) {
+        catalogCache.rebuild();
+        eventCache.invalidateAll();
+        searchIndex.reindexCategory(id);
+        upcomingIndex.refreshCategory(id);
+    }
 }
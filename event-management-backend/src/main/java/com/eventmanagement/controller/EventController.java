@@ -1,21 +1,42 @@
 package com.eventmanagement.controller;
 
+import com.eventmanagement.dto.CursorPage;
+import com.eventmanagement.dto.EventSummary;
+import com.eventmanagement.dto.MessageResponse;
 import com.eventmanagement.entity.Event;
 import com.eventmanagement.entity.User;
 import com.eventmanagement.repository.UserRepository;
 import com.eventmanagement.security.UserDetailsImpl;
+import com.eventmanagement.service.CachedJson;
+import com.eventmanagement.service.EventResponseCache;
+import com.eventmanagement.service.EventSearchIndex;
 import com.eventmanagement.service.EventService;
+import com.eventmanagement.service.KeysetPaginationService;
+import com.eventmanagement.service.ReadModelService;
+import com.eventmanagement.service.ReadYourWritesTracker;
+import com.eventmanagement.service.SeatAvailabilityPublisher;
+import com.eventmanagement.service.SeatInventoryService;
+import com.eventmanagement.service.UpcomingEventsIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -29,38 +50,87 @@ public class EventController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SeatInventoryService seatInventory;
+
+    @Autowired
+    private EventSearchIndex searchIndex;
+
+    @Autowired
+    private KeysetPaginationService keysetPagination;
+
+    @Autowired
+    private UpcomingEventsIndex upcomingIndex;
+
+    @Autowired
+    private ReadModelService readModels;
+
+    @Autowired
+    private ReadYourWritesTracker readYourWrites;
+
+    @Autowired
+    private EventResponseCache eventCache;
+
+    @Autowired
+    private SeatAvailabilityPublisher availability;
+
     @GetMapping
-    public ResponseEntity<Page<Event>> getAllEvents(
+    public ResponseEntity<?> getAllEvents(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "startDateTime") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
-        
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return seekEvents(null, Map.of(), sortBy, sortDir, cursor, size);
+        }
+
+        if (!readModels.isEventSortable(sortBy)) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: Unsupported sort field " + sortBy));
+        }
         Sort sort = sortDir.equalsIgnoreCase("desc") ? 
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<Event> events = eventService.getAllEvents(pageable);
+        Page<EventSummary> events = readModels.getAllEvents(pageable);
         return ResponseEntity.ok(events);
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<Page<Event>> getUpcomingEvents(
+    public ResponseEntity<?> getUpcomingEvents(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return seekEvents("e.status = :status and e.startDateTime > :now",
+                    Map.of("status", Event.EventStatus.PUBLISHED, "now", LocalDateTime.now()),
+                    "startDateTime", "asc", cursor, size);
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by("startDateTime").ascending());
-        Page<Event> events = eventService.getUpcomingEvents(pageable);
+        Page<EventSummary> events = upcomingIndex.isReady()
+                ? upcomingIndex.getPage(pageable)
+                : readModels.getUpcomingEvents(pageable);
         return ResponseEntity.ok(events);
     }
 
+    @GetMapping("/upcoming/index-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getUpcomingIndexStats() {
+        return ResponseEntity.ok(upcomingIndex.getStats());
+    }
+
     @GetMapping("/pending")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<Event>> getPendingEvents(
+    public ResponseEntity<?> getPendingEvents(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor) {
+        if (cursor != null) {
+            return seekEvents("e.status = :status", Map.of("status", Event.EventStatus.PENDING), sortBy, sortDir, cursor, size);
+        }
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
@@ -68,22 +138,67 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    // Cursor mode: pass cursor= (empty) for the first page, then the nextCursor of each response
+    private ResponseEntity<?> seekEvents(String filter, Map<String, Object> params, String sortBy, String sortDir,
+                                         String cursor, int size) {
+        try {
+            CursorPage<EventSummary> events = keysetPagination.seekEvents(filter, params,
+                    sortBy, sortDir.equalsIgnoreCase("desc"), cursor, size);
+            return ResponseEntity.ok(events);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<Page<Event>> searchEvents(
+    public ResponseEntity<Page<EventSummary>> searchEvents(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("startDateTime").ascending());
-        Page<Event> events = eventService.searchEvents(keyword, pageable);
-        return ResponseEntity.ok(events);
+        if (!searchIndex.isReady()) {
+            return ResponseEntity.ok(readModels.searchEvents(keyword, pageable));
+        }
+        EventSearchIndex.SearchResult result = searchIndex.search(keyword, page, size);
+        // Only the rows of the requested page are fetched, in one query and in ranked order
+        List<EventSummary> content = readModels.getEventsByIds(result.getIds());
+        return ResponseEntity.ok(new PageImpl<>(content, pageable, result.getTotal()));
     }
 
+    // Served from pre-serialized bytes; clients revalidate with If-None-Match since booking changes alter the body
     @GetMapping("/{id}")
-    public ResponseEntity<Event> getEventById(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getEventById(@PathVariable Long id, WebRequest webRequest) {
+        CachedJson event = eventCache.get(id);
+        if (event == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (webRequest.checkNotModified(event.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(event.getEtag()).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(event.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(event.getJson());
+    }
+
+    // Live remaining seats; replaces polling GET /{id} during sales
+    @GetMapping(path = "/{id}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamAvailability(@PathVariable Long id) {
         Optional<Event> event = eventService.getEventById(id);
-        return event.map(ResponseEntity::ok)
-                   .orElse(ResponseEntity.notFound().build());
+        if (event.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        SseEmitter emitter = availability.subscribe(id, seatInventory.getRemainingSeats(event.get()));
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "30").build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Stops nginx-style proxies from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
     }
 
     @PostMapping
@@ -98,6 +213,9 @@ public class EventController {
         }
         
         Event createdEvent = eventService.createEvent(event);
+        readYourWrites.markWrite(organizer.getId());
+        searchIndex.index(createdEvent);
+        upcomingIndex.refresh(createdEvent.getId());
         return ResponseEntity.ok(createdEvent);
     }
 
@@ -119,6 +237,17 @@ public class EventController {
             event.setCategory(eventDetails.getCategory());
             
             Event updatedEvent = eventService.updateEvent(event);
+            eventCache.invalidate(id);
+            seatInventory.resize(updatedEvent);
+            if (availability.hasSubscribers(id)) {
+                // The capacity may have changed, or the event may have gained one; tell the watchers
+                Integer remaining = seatInventory.getRemainingSeats(updatedEvent);
+                if (remaining != null) {
+                    availability.publish(id, remaining);
+                }
+            }
+            searchIndex.index(updatedEvent);
+            upcomingIndex.refresh(id);
             return ResponseEntity.ok(updatedEvent);
         }
         return ResponseEntity.notFound().build();
@@ -132,13 +261,33 @@ public class EventController {
             return ResponseEntity.notFound().build();
         }
         eventService.deleteEvent(id);
+        eventCache.invalidate(id);
+        seatInventory.evict(id);
+        searchIndex.remove(id);
+        upcomingIndex.remove(id);
         return ResponseEntity.ok().build();
     }
 
     @GetMapping("/my-events")
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN') or hasRole('ORGANIZER')")
-    public ResponseEntity<List<Event>> getMyEvents(Authentication authentication) {
+    public ResponseEntity<?> getMyEvents(Authentication authentication,
+                                         @RequestParam(required = false) Integer page,
+                                         @RequestParam(required = false) Integer size,
+                                         @RequestParam(required = false) String since) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
+        // Sync mode: pass since= (empty) for the first sync, then the watermark of each response
+        if (since != null) {
+            try {
+                return ResponseEntity.ok(readModels.syncEventsByOrganizer(userDetails.getId(), since,
+                        size != null ? size : 200));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(new MessageResponse("Error: " + e.getMessage()));
+            }
+        }
+        if (page != null) {
+            Pageable pageable = PageRequest.of(page, size != null ? size : 10, Sort.by("startDateTime").descending());
+            return ResponseEntity.ok(readModels.getEventsByOrganizer(userDetails.getId(), pageable));
+        }
         User user = userRepository.findById(userDetails.getId()).orElseThrow();
         List<Event> events = eventService.getEventsByOrganizer(user);
         return ResponseEntity.ok(events);
@@ -150,6 +299,7 @@ public class EventController {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         User organizer = userRepository.findById(userDetails.getId()).orElseThrow();
         Event submitted = eventService.submitEvent(event, organizer);
+        readYourWrites.markWrite(organizer.getId());
         return ResponseEntity.ok(submitted);
     }
 
@@ -159,6 +309,9 @@ public class EventController {
         Optional<Event> eventOpt = eventService.getEventById(id);
         if (eventOpt.isEmpty()) return ResponseEntity.notFound().build();
         Event updated = eventService.approveEvent(eventOpt.get());
+        eventCache.invalidate(id);
+        searchIndex.index(updated);
+        upcomingIndex.refresh(id);
         return ResponseEntity.ok(updated);
     }
 
@@ -168,6 +321,9 @@ public class EventController {
         Optional<Event> eventOpt = eventService.getEventById(id);
         if (eventOpt.isEmpty()) return ResponseEntity.notFound().build();
         Event updated = eventService.rejectEvent(eventOpt.get());
+        eventCache.invalidate(id);
+        searchIndex.index(updated);
+        upcomingIndex.refresh(id);
         return ResponseEntity.ok(updated);
     }
 }
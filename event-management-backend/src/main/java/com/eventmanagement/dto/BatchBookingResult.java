@@ -0,0 +1,84 @@
+package com.eventmanagement.dto;
+
+import java.math.BigDecimal;
+
+public class BatchBookingResult {
+    public enum Outcome { CREATED, REJECTED }
+
+    private int index;
+    private Long eventId;
+    private Integer numberOfTickets;
+    private Outcome outcome;
+    private Long bookingId;
+    private BigDecimal totalAmount;
+    private String message;
+
+    public BatchBookingResult(int index, Long eventId, Integer numberOfTickets) {
+        this.index = index;
+        this.eventId = eventId;
+        this.numberOfTickets = numberOfTickets;
+    }
+
+    public static BatchBookingResult rejected(int index, Long eventId, Integer numberOfTickets, String message) {
+        BatchBookingResult result = new BatchBookingResult(index, eventId, numberOfTickets);
+        result.setOutcome(Outcome.REJECTED);
+        result.setMessage(message);
+        return result;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Integer getNumberOfTickets() {
+        return numberOfTickets;
+    }
+
+    public void setNumberOfTickets(Integer numberOfTickets) {
+        this.numberOfTickets = numberOfTickets;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(Long bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(BigDecimal totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
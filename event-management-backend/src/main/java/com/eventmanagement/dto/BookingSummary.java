@@ -0,0 +1,123 @@
+package com.eventmanagement.dto;
+
+import com.eventmanagement.entity.Booking;
+import com.eventmanagement.entity.Event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read model for booking listings, with just enough of the booker and event to render a row.
+ */
+public class BookingSummary {
+    public static final String SELECT =
+            "select new com.eventmanagement.dto.BookingSummary(b.id, b.numberOfTickets, b.totalAmount, b.status, " +
+            "b.bookingDate, b.createdAt, b.updatedAt, u.id, u.username, u.firstName, u.lastName, " +
+            "e.id, e.title, e.startDateTime, e.location, e.ticketPrice, e.status) " +
+            "from Booking b join b.user u join b.event e";
+
+    private final Long id;
+    private final Integer numberOfTickets;
+    private final BigDecimal totalAmount;
+    private final Booking.BookingStatus status;
+    private final LocalDateTime bookingDate;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final UserSummary user;
+    private final EventRef event;
+
+    public BookingSummary(Long id, Integer numberOfTickets, BigDecimal totalAmount, Booking.BookingStatus status,
+                          LocalDateTime bookingDate, LocalDateTime createdAt, LocalDateTime updatedAt,
+                          Long userId, String username, String firstName, String lastName,
+                          Long eventId, String eventTitle, LocalDateTime eventStart, String eventLocation,
+                          BigDecimal eventTicketPrice, Event.EventStatus eventStatus) {
+        this.id = id;
+        this.numberOfTickets = numberOfTickets;
+        this.totalAmount = totalAmount;
+        this.status = status;
+        this.bookingDate = bookingDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.user = new UserSummary(userId, username, firstName, lastName);
+        this.event = new EventRef(eventId, eventTitle, eventStart, eventLocation, eventTicketPrice, eventStatus);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Integer getNumberOfTickets() {
+        return numberOfTickets;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public Booking.BookingStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getBookingDate() {
+        return bookingDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public UserSummary getUser() {
+        return user;
+    }
+
+    public EventRef getEvent() {
+        return event;
+    }
+
+    public static class EventRef {
+        private final Long id;
+        private final String title;
+        private final LocalDateTime startDateTime;
+        private final String location;
+        private final BigDecimal ticketPrice;
+        private final Event.EventStatus status;
+
+        public EventRef(Long id, String title, LocalDateTime startDateTime, String location,
+                        BigDecimal ticketPrice, Event.EventStatus status) {
+            this.id = id;
+            this.title = title;
+            this.startDateTime = startDateTime;
+            this.location = location;
+            this.ticketPrice = ticketPrice;
+            this.status = status;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public LocalDateTime getStartDateTime() {
+            return startDateTime;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public BigDecimal getTicketPrice() {
+            return ticketPrice;
+        }
+
+        public Event.EventStatus getStatus() {
+            return status;
+        }
+    }
+}
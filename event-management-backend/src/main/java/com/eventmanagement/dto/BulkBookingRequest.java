@@ -0,0 +1,38 @@
+package com.eventmanagement.dto;
+
+import com.eventmanagement.entity.Booking;
+
+import java.util.List;
+
+public class BulkBookingRequest {
+    private List<Long> ids;
+    private Long eventId;
+    private Booking.BookingStatus currentStatus;
+
+    public BulkBookingRequest() {
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Booking.BookingStatus getCurrentStatus() {
+        return currentStatus;
+    }
+
+    public void setCurrentStatus(Booking.BookingStatus currentStatus) {
+        this.currentStatus = currentStatus;
+    }
+}
@@ -0,0 +1,60 @@
+package com.eventmanagement.dto;
+
+import java.util.List;
+
+public class BulkBookingResponse {
+    private int matched;
+    private int updated;
+    private int skipped;
+    // Bookings left unconfirmed because their seat hold had expired
+    private List<Long> rejectedIds;
+    private int seatsReleased;
+
+    public BulkBookingResponse(int matched, int updated, int skipped, List<Long> rejectedIds, int seatsReleased) {
+        this.matched = matched;
+        this.updated = updated;
+        this.skipped = skipped;
+        this.rejectedIds = rejectedIds;
+        this.seatsReleased = seatsReleased;
+    }
+
+    public int getMatched() {
+        return matched;
+    }
+
+    public void setMatched(int matched) {
+        this.matched = matched;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(int skipped) {
+        this.skipped = skipped;
+    }
+
+    public List<Long> getRejectedIds() {
+        return rejectedIds;
+    }
+
+    public void setRejectedIds(List<Long> rejectedIds) {
+        this.rejectedIds = rejectedIds;
+    }
+
+    public int getSeatsReleased() {
+        return seatsReleased;
+    }
+
+    public void setSeatsReleased(int seatsReleased) {
+        this.seatsReleased = seatsReleased;
+    }
+}
@@ -0,0 +1,19 @@
+package com.eventmanagement.dto;
+
+public class CategorySummary {
+    private final Long id;
+    private final String name;
+
+    public CategorySummary(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
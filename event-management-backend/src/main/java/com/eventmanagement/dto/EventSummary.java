@@ -0,0 +1,112 @@
+package com.eventmanagement.dto;
+
+import com.eventmanagement.entity.Event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read model for event listings. Built directly by JPQL constructor expressions, so listing a page never
+ * loads Event entities or their associations.
+ */
+public class EventSummary {
+    public static final String SELECT =
+            "select new com.eventmanagement.dto.EventSummary(e.id, e.title, e.description, e.startDateTime, " +
+            "e.endDateTime, e.location, e.maxAttendees, e.ticketPrice, e.imageUrl, e.status, e.createdAt, e.updatedAt, " +
+            "c.id, c.name, o.id, o.username, o.firstName, o.lastName) " +
+            "from Event e left join e.category c left join e.organizer o";
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final String location;
+    private final Integer maxAttendees;
+    private final BigDecimal ticketPrice;
+    private final String imageUrl;
+    private final Event.EventStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final CategorySummary category;
+    private final UserSummary organizer;
+
+    public EventSummary(Long id, String title, String description, LocalDateTime startDateTime,
+                        LocalDateTime endDateTime, String location, Integer maxAttendees, BigDecimal ticketPrice,
+                        String imageUrl, Event.EventStatus status, LocalDateTime createdAt, LocalDateTime updatedAt,
+                        Long categoryId, String categoryName,
+                        Long organizerId, String organizerUsername, String organizerFirstName, String organizerLastName) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.location = location;
+        this.maxAttendees = maxAttendees;
+        this.ticketPrice = ticketPrice;
+        this.imageUrl = imageUrl;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.category = categoryId != null ? new CategorySummary(categoryId, categoryName) : null;
+        this.organizer = organizerId != null
+                ? new UserSummary(organizerId, organizerUsername, organizerFirstName, organizerLastName)
+                : null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Integer getMaxAttendees() {
+        return maxAttendees;
+    }
+
+    public BigDecimal getTicketPrice() {
+        return ticketPrice;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public Event.EventStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public CategorySummary getCategory() {
+        return category;
+    }
+
+    public UserSummary getOrganizer() {
+        return organizer;
+    }
+}
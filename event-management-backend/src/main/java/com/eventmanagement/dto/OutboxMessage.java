@@ -0,0 +1,60 @@
+package com.eventmanagement.dto;
+
+/**
+ * One pending delivery from the outbox: a message of {@code type} about {@code aggregateId}, addressed to one handler.
+ */
+public class OutboxMessage {
+    private Long id;
+    private String type;
+    private String handler;
+    private Long aggregateId;
+    private int attempts;
+
+    public OutboxMessage(Long id, String type, String handler, Long aggregateId, int attempts) {
+        this.id = id;
+        this.type = type;
+        this.handler = handler;
+        this.aggregateId = aggregateId;
+        this.attempts = attempts;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public void setHandler(String handler) {
+        this.handler = handler;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public void setAggregateId(Long aggregateId) {
+        this.aggregateId = aggregateId;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+}
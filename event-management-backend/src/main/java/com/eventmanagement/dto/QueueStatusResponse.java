@@ -0,0 +1,68 @@
+package com.eventmanagement.dto;
+
+public class QueueStatusResponse {
+    private Long eventId;
+    private int position;
+    private int queueLength;
+    private int inFlight;
+    private long estimatedWaitMs;
+    private String message;
+
+    public QueueStatusResponse(Long eventId, int position, int queueLength, int inFlight, long estimatedWaitMs,
+                               String message) {
+        this.eventId = eventId;
+        this.position = position;
+        this.queueLength = queueLength;
+        this.inFlight = inFlight;
+        this.estimatedWaitMs = estimatedWaitMs;
+        this.message = message;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    public int getQueueLength() {
+        return queueLength;
+    }
+
+    public void setQueueLength(int queueLength) {
+        this.queueLength = queueLength;
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public void setInFlight(int inFlight) {
+        this.inFlight = inFlight;
+    }
+
+    public long getEstimatedWaitMs() {
+        return estimatedWaitMs;
+    }
+
+    public void setEstimatedWaitMs(long estimatedWaitMs) {
+        this.estimatedWaitMs = estimatedWaitMs;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,28 @@
+package com.eventmanagement.dto;
+
+public class SeatAvailability {
+    private Long eventId;
+    // null when the event has no capacity limit
+    private Integer remainingSeats;
+
+    public SeatAvailability(Long eventId, Integer remainingSeats) {
+        this.eventId = eventId;
+        this.remainingSeats = remainingSeats;
+    }
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Integer getRemainingSeats() {
+        return remainingSeats;
+    }
+
+    public void setRemainingSeats(Integer remainingSeats) {
+        this.remainingSeats = remainingSeats;
+    }
+}
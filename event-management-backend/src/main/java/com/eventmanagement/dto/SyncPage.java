@@ -0,0 +1,49 @@
+package com.eventmanagement.dto;
+
+import java.util.List;
+
+public class SyncPage<T> {
+    private List<T> changes;
+    private List<Long> ids;
+    private String watermark;
+    private boolean hasMore;
+
+    public SyncPage(List<T> changes, List<Long> ids, String watermark, boolean hasMore) {
+        this.changes = changes;
+        this.ids = ids;
+        this.watermark = watermark;
+        this.hasMore = hasMore;
+    }
+
+    public List<T> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<T> changes) {
+        this.changes = changes;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public String getWatermark() {
+        return watermark;
+    }
+
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,69 @@
+package com.eventmanagement.dto;
+
+import java.util.List;
+
+public class UserImportReport {
+    private int total;
+    private int created;
+    private int rejected;
+    private boolean truncated;
+    private long elapsedMs;
+    private List<UserImportRow> rows;
+
+    public UserImportReport(List<UserImportRow> rows, boolean truncated, long elapsedMs) {
+        this.rows = rows;
+        this.truncated = truncated;
+        this.elapsedMs = elapsedMs;
+        this.total = rows.size();
+        this.created = (int) rows.stream().filter(r -> r.getOutcome() == UserImportRow.Outcome.CREATED).count();
+        this.rejected = total - created;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public void setCreated(int created) {
+        this.created = created;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public void setElapsedMs(long elapsedMs) {
+        this.elapsedMs = elapsedMs;
+    }
+
+    public List<UserImportRow> getRows() {
+        return rows;
+    }
+
+    public void setRows(List<UserImportRow> rows) {
+        this.rows = rows;
+    }
+}
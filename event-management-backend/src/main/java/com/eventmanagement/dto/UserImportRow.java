@@ -0,0 +1,63 @@
+package com.eventmanagement.dto;
+
+public class UserImportRow {
+    public enum Outcome { CREATED, REJECTED }
+
+    private int index;
+    private String username;
+    private Outcome outcome;
+    private Long userId;
+    private String message;
+
+    public UserImportRow(int index, String username) {
+        this.index = index;
+        this.username = username;
+    }
+
+    public static UserImportRow rejected(int index, String username, String message) {
+        UserImportRow row = new UserImportRow(index, username);
+        row.setOutcome(Outcome.REJECTED);
+        row.setMessage(message);
+        return row;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,69 @@
+package com.eventmanagement.security;
+
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.eventmanagement.entity.User;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Revokes a user's tokens whenever an entity update changes their role or password, or deletes the account,
+ * so tokens carrying the old role stop working however the change was made. Bulk JPQL updates bypass entity
+ * events and have to call {@link TokenRevocationList#revokeUser(Long)} themselves.
+ */
+@Component
+public class CredentialChangeListener implements PostUpdateEventListener, PostDeleteEventListener {
+    private static final Set<String> CREDENTIAL_PROPERTIES = Set.of("role", "password");
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof User user) || event.getDirtyProperties() == null) {
+            return;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        for (int index : event.getDirtyProperties()) {
+            if (CREDENTIAL_PROPERTIES.contains(names[index])) {
+                revocationList.revokeUser(user.getId());
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof User user) {
+            revocationList.revokeUser(user.getId());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventmanagement.security;
+
+/**
+ * Thrown when the password hashing pool is saturated and the request should be retried later.
+ */
+public class HashingOverloadException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public HashingOverloadException(long retryAfterSeconds) {
+        super("Password hashing capacity exhausted");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,12 +1,21 @@
 package com.eventmanagement.security;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -25,6 +34,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private TokenRevocationList revocationList;
+
+    // "claims" builds the principal from the verified token; "database" reloads the user on every request
+    @Value("${jwt.principalMode:claims}")
+    private String principalMode;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer verifyValid;
+    private Timer verifyInvalid;
+    private Timer resolveTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        verifyValid = verifyTimer("valid");
+        verifyInvalid = verifyTimer("invalid");
+        resolveTimer = Timer.builder("auth.principal.resolve")
+                .description("Building the authenticated principal from a verified token")
+                .tag("mode", "claims".equalsIgnoreCase(principalMode) ? "claims" : "database")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Timer verifyTimer(String result) {
+        return Timer.builder("auth.jwt.verify")
+                .description("JWT signature and claims verification, including cache hits")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -35,23 +77,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (headerAuth != null && headerAuth.startsWith("Bearer ")) {
             String token = headerAuth.substring(7);
-            boolean valid = jwtUtils.validateJwtToken(token);
+            long start = System.nanoTime();
+            Optional<JwtClaims> claims = jwtUtils.parseJwtToken(token);
+            (claims.isPresent() ? verifyValid : verifyInvalid).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             if (log.isDebugEnabled()) {
-                log.debug("[JWT] token prefix: {}..., valid: {}", token.length() > 10 ? token.substring(0, 10) : token, valid);
+                log.debug("[JWT] token prefix: {}..., valid: {}", token.length() > 10 ? token.substring(0, 10) : token, claims.isPresent());
             }
-            if (valid) {
-                String username = jwtUtils.getUserNameFromJwtToken(token);
+            if (claims.isPresent()) {
+                String username = claims.get().getSubject();
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    var userDetails = userDetailsService.loadUserByUsername(username);
-                    var authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    UserDetails userDetails = resolveTimer.record(() -> resolveUser(claims.get()));
+                    if (userDetails != null) {
+                        var authentication = new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
                 }
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails resolveUser(JwtClaims claims) {
+        if ("claims".equalsIgnoreCase(principalMode)) {
+            UserDetailsImpl principal = UserDetailsImpl.build(claims);
+            if (principal != null) {
+                if (revocationList.isRevoked(principal.getId(), claims.getIssuedAt())) {
+                    log.debug("[JWT] token for user {} has been revoked", principal.getId());
+                    return null;
+                }
+                return principal;
+            }
+        }
+        try {
+            return userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
 }
 
@@ -0,0 +1,47 @@
+package com.eventmanagement.security;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Immutable view of a verified token's claims, produced once by {@link JwtUtils#parseJwtToken(String)}.
+ */
+public class JwtClaims {
+    private final String subject;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final Map<String, Object> claims;
+
+    public JwtClaims(String subject, Date issuedAt, Date expiration, Map<String, Object> claims) {
+        this.subject = subject;
+        this.issuedAt = issuedAt;
+        this.expiration = expiration;
+        this.claims = Collections.unmodifiableMap(claims);
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Date getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+
+    public Map<String, Object> getClaims() {
+        return claims;
+    }
+
+    public <T> T getClaim(String name, Class<T> type) {
+        Object value = claims.get(name);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expiration != null && expiration.getTime() <= nowMillis;
+    }
+}
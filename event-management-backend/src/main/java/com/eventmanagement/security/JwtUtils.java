@@ -1,53 +1,153 @@
 package com.eventmanagement.security;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 
 @Component
 public class JwtUtils {
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_EMAIL = "email";
+    // The standard iat claim has second precision, too coarse to tell a new token from one revoked that second
+    public static final String CLAIM_ISSUED_AT_MS = "iat_ms";
+
+    // Independently locked LRU stripes, so concurrent requests only contend when their tokens share a stripe
+    private static final int CACHE_STRIPES = 64;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expirationMs}")
     private long jwtExpirationMs;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(java.util.Base64.getEncoder().encodeToString(jwtSecret.getBytes()));
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.verifiedCacheSize:10000}")
+    private int verifiedCacheSize;
+
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    // Recently verified tokens keyed by SHA-256 of the compact token; each stripe drops its least recently used
+    // entry when full
+    private VerifiedTokens[] verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        int stripeSize = (verifiedCacheSize + CACHE_STRIPES - 1) / CACHE_STRIPES;
+        verifiedTokens = new VerifiedTokens[CACHE_STRIPES];
+        for (int i = 0; i < CACHE_STRIPES; i++) {
+            verifiedTokens[i] = new VerifiedTokens(stripeSize);
+        }
+    }
+
+    public String generateJwtToken(UserDetailsImpl userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, userDetails.getId());
+        claims.put(CLAIM_ROLE, userDetails.getAuthorities().iterator().next().getAuthority());
+        claims.put(CLAIM_EMAIL, userDetails.getEmail());
+        return buildToken(userDetails.getUsername(), claims);
     }
 
     public String generateJwtToken(String subject) {
+        return buildToken(subject, Map.of());
+    }
+
+    private String buildToken(String subject, Map<String, Object> claims) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtExpirationMs);
         return Jwts.builder()
+                .addClaims(claims)
+                .claim(CLAIM_ISSUED_AT_MS, now.getTime())
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the token signature and expiry once and returns its claims, or empty if the token is invalid.
+     */
+    public Optional<JwtClaims> parseJwtToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        long now = System.currentTimeMillis();
+        String key = hash(token);
+        VerifiedTokens stripe = verifiedTokens[Math.floorMod(key.hashCode(), CACHE_STRIPES)];
+        JwtClaims cached;
+        synchronized (stripe) {
+            cached = stripe.get(key);
+            if (cached != null && cached.isExpired(now)) {
+                stripe.remove(key);
+            }
+        }
+        if (cached != null) {
+            return cached.isExpired(now) ? Optional.empty() : Optional.of(cached);
+        }
+
+        JwtClaims parsed;
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Date issuedAt = claims.get(CLAIM_ISSUED_AT_MS) instanceof Number millis
+                    ? new Date(millis.longValue()) : claims.getIssuedAt();
+            parsed = new JwtClaims(claims.getSubject(), issuedAt, claims.getExpiration(), new HashMap<>(claims));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+        synchronized (stripe) {
+            stripe.put(key, parsed);
+        }
+        return Optional.of(parsed);
+    }
+
     public String getUserNameFromJwtToken(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token).getBody();
-        return claims.getSubject();
+        return parseJwtToken(token).map(JwtClaims::getSubject).orElse(null);
     }
 
     public boolean validateJwtToken(String authToken) {
+        return parseJwtToken(authToken).isPresent();
+    }
+
+    private static String hash(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(authToken);
-            return true;
-        } catch (Exception e) {
-            return false;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
-}
 
+    private static final class VerifiedTokens extends LinkedHashMap<String, JwtClaims> {
+        private final int maxSize;
+
+        VerifiedTokens(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
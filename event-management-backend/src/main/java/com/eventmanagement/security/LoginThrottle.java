@@ -0,0 +1,137 @@
+package com.eventmanagement.security;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limits on failed sign-ins within a window: a low one per account and client address, and a higher one per
+ * account from any address, so rotating addresses does not lift the limit. Each attempt is counted before any
+ * password hashing happens and is cleared again if it succeeds, so parallel attempts cannot all get past the
+ * check; once a limit is reached further attempts are refused until the window has passed.
+ */
+@Component
+public class LoginThrottle {
+    @Value("${auth.throttle.maxFailures:5}")
+    private int maxFailures;
+
+    @Value("${auth.throttle.maxAccountFailures:20}")
+    private int maxAccountFailures;
+
+    @Value("${auth.throttle.windowSeconds:300}")
+    private long windowSeconds;
+
+    private final ConcurrentHashMap<String, Failures> failures = new ConcurrentHashMap<>();
+
+    /**
+     * The account an attempt counts against: the sign-in identifier as typed, normalized. No lookup is made, so
+     * the throttle costs nothing before it decides.
+     */
+    public String key(String usernameOrEmail) {
+        return usernameOrEmail == null ? "" : usernameOrEmail.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Counts an attempt against both limits before it is checked.
+     *
+     * @return 0 if the attempt may go ahead, otherwise the seconds until the account may try again from this
+     *         address, in which case nothing was counted
+     */
+    public long tryAcquire(String account, String clientAddress) {
+        long now = System.currentTimeMillis();
+        String pair = pairKey(account, clientAddress);
+        long retryAfter = reserve(pair, maxFailures, now);
+        if (retryAfter > 0) {
+            return retryAfter;
+        }
+        retryAfter = reserve(accountKey(account), maxAccountFailures, now);
+        if (retryAfter > 0) {
+            unreserve(pair);
+        }
+        return retryAfter;
+    }
+
+    /**
+     * Takes back an attempt that ended without the password being judged, e.g. because hashing was overloaded.
+     */
+    public void release(String account, String clientAddress) {
+        unreserve(pairKey(account, clientAddress));
+        unreserve(accountKey(account));
+    }
+
+    public void recordSuccess(String account, String clientAddress) {
+        clear(pairKey(account, clientAddress));
+        clear(accountKey(account));
+    }
+
+    @Scheduled(fixedDelayString = "${auth.throttle.cleanupMs:60000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - windowSeconds * 1000;
+        failures.values().removeIf(entry -> entry.retireIfBefore(cutoff));
+    }
+
+    private long reserve(String key, int limit, long now) {
+        while (true) {
+            Failures entry = failures.computeIfAbsent(key, k -> new Failures(now));
+            synchronized (entry) {
+                if (entry.retired) {
+                    // Evicted or cleared after we looked it up; its successor holds the count
+                    continue;
+                }
+                if (entry.windowStart + windowSeconds * 1000 <= now) {
+                    entry.windowStart = now;
+                    entry.count = 0;
+                }
+                if (entry.count >= limit) {
+                    long remainingMs = entry.windowStart + windowSeconds * 1000 - now;
+                    return Math.max(1, (remainingMs + 999) / 1000);
+                }
+                entry.count++;
+                return 0;
+            }
+        }
+    }
+
+    private void unreserve(String key) {
+        Failures entry = failures.get(key);
+        if (entry != null) {
+            synchronized (entry) {
+                if (entry.count > 0) {
+                    entry.count--;
+                }
+            }
+        }
+    }
+
+    private void clear(String key) {
+        failures.computeIfPresent(key, (k, entry) -> entry.retireIfBefore(Long.MAX_VALUE) ? null : entry);
+    }
+
+    private static String pairKey(String account, String clientAddress) {
+        return "address:" + clientAddress + "|" + account;
+    }
+
+    private static String accountKey(String account) {
+        return "account:" + account;
+    }
+
+    static final class Failures {
+        long windowStart;
+        int count;
+        boolean retired;
+
+        Failures(long windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        synchronized boolean retireIfBefore(long cutoff) {
+            if (windowStart <= cutoff) {
+                retired = true;
+            }
+            return retired;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.eventmanagement.security;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fixed-size pool that runs all password hashing, so a burst of logins or signups can use at most
+ * {@code auth.hashing.threads} cores. Work beyond the queue limit is rejected immediately with
+ * {@link HashingOverloadException} instead of queueing behind the burst.
+ */
+@Component
+public class PasswordHashingExecutor {
+    @Value("${auth.hashing.threads:0}")
+    private int threads;
+
+    @Value("${auth.hashing.queueCapacity:64}")
+    private int queueCapacity;
+
+    @Value("${auth.hashing.timeoutMs:5000}")
+    private long timeoutMs;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor pool;
+    private Timer hashTimer;
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+    private volatile double avgHashMs = 100;
+
+    @PostConstruct
+    void init() {
+        if (threads <= 0) {
+            // Leave at least half the cores to the rest of the API
+            threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "password-hashing-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        hashTimer = Timer.builder("auth.password.hash")
+                .description("BCrypt encode/match time on the hashing pool")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.queue", pool, p -> p.getQueue().size())
+                .description("Hashing requests waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", pool, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing workers currently busy")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.password.hash.rejected", rejected, AtomicLong::get)
+                .description("Hashing requests turned away with 503")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    public <T> T execute(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = pool.submit(() -> timed(hashing));
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new HashingOverloadException(getRetryAfterSeconds());
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(future);
+            rejected.incrementAndGet();
+            throw new HashingOverloadException(getRetryAfterSeconds());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(future);
+            throw new HashingOverloadException(getRetryAfterSeconds());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    // BCrypt never checks for interrupts, so a hash already running finishes regardless; one still queued is
+    // taken out of the queue so it neither runs for nobody nor holds a queue slot
+    private void abandon(Future<?> future) {
+        future.cancel(false);
+        pool.remove((Runnable) future);
+    }
+
+    public long getRetryAfterSeconds() {
+        double drainMs = (pool.getQueue().size() + 1) * avgHashMs / threads;
+        return Math.max(1, (long) Math.ceil(drainMs / 1000));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", threads);
+        stats.put("active", pool.getActiveCount());
+        stats.put("queueDepth", pool.getQueue().size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("completed", completed.get());
+        stats.put("rejected", rejected.get());
+        stats.put("avgHashMs", Math.round(avgHashMs * 10) / 10.0);
+        stats.put("maxHashMs", TimeUnit.NANOSECONDS.toMillis(maxHashNanos.get()));
+        return stats;
+    }
+
+    private <T> T timed(Callable<T> hashing) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return hashing.call();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            completed.incrementAndGet();
+            hashTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            maxHashNanos.accumulateAndGet(elapsed, Math::max);
+            avgHashMs = avgHashMs * 0.9 + elapsed / 1_000_000.0 * 0.1;
+        }
+    }
+}
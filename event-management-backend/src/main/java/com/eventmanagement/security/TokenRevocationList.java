@@ -0,0 +1,102 @@
+package com.eventmanagement.security;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Users whose previously issued tokens must no longer be trusted, e.g. after a role or password change or
+ * account deletion. Revocations are stored in the token_revocations table so every node sees them; each node
+ * checks tokens against a local copy that it refreshes from the table. Entries outlive every token they can
+ * affect and are then dropped.
+ */
+@Component
+public class TokenRevocationList {
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private static final String UPSERT_REVOCATION =
+            "INSERT INTO token_revocations (user_id, revoked_at) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE revoked_at = GREATEST(revoked_at, VALUES(revoked_at))";
+    private static final String SELECT_RECENT =
+            "SELECT user_id, revoked_at FROM token_revocations WHERE revoked_at > ?";
+    private static final String DELETE_EXPIRED = "DELETE FROM token_revocations WHERE revoked_at < ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.expirationMs}")
+    private long jwtExpirationMs;
+
+    // Revocations stamped by other nodes may commit, or carry a clock, up to this far behind the last poll
+    @Value("${jwt.revocation.overlapMs:60000}")
+    private long overlapMs;
+
+    private final ConcurrentHashMap<Long, Long> revokedAt = new ConcurrentHashMap<>();
+
+    // Start of the last successful poll; 0 until the first one has loaded every live revocation
+    private volatile long polledAt;
+
+    /**
+     * Revokes every token issued to the user until now. Inside a transaction the revocation is written with it
+     * and takes effect locally once it commits.
+     */
+    public void revokeUser(Long userId) {
+        long now = System.currentTimeMillis();
+        jdbcTemplate.update(UPSERT_REVOCATION, userId, now);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(userId, now);
+                }
+            });
+        } else {
+            remember(userId, now);
+        }
+    }
+
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long since = revokedAt.get(userId);
+        if (since == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (since + jwtExpirationMs < now) {
+            revokedAt.remove(userId, since);
+            return false;
+        }
+        // Tokens issued after the revocation pass; JwtUtils restores their millisecond issue time
+        return issuedAt == null || issuedAt.getTime() <= since;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${jwt.revocation.refreshMs:5000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        long horizon = now - jwtExpirationMs;
+        long after = polledAt == 0 ? horizon : Math.max(horizon, polledAt - overlapMs);
+        try {
+            jdbcTemplate.query(SELECT_RECENT, rs -> {
+                remember(rs.getLong("user_id"), rs.getLong("revoked_at"));
+            }, after);
+            jdbcTemplate.update(DELETE_EXPIRED, horizon);
+            polledAt = now;
+        } catch (DataAccessException e) {
+            log.warn("Refreshing token revocations failed: {}", e.getMessage());
+        }
+        revokedAt.values().removeIf(since -> since < horizon);
+    }
+
+    private void remember(Long userId, long since) {
+        revokedAt.merge(userId, since, Math::max);
+    }
+}
@@ -38,6 +38,25 @@ public class UserDetailsImpl implements UserDetails {
                 Collections.singletonList(authority));
     }
 
+    /**
+     * Builds a principal from the id, role and email embedded at sign-in, without touching the database.
+     * Returns null if the token predates those claims.
+     */
+    public static UserDetailsImpl build(JwtClaims claims) {
+        Number id = claims.getClaim(JwtUtils.CLAIM_USER_ID, Number.class);
+        String role = claims.getClaim(JwtUtils.CLAIM_ROLE, String.class);
+        if (id == null || role == null) {
+            return null;
+        }
+
+        return new UserDetailsImpl(
+                id.longValue(),
+                claims.getSubject(),
+                claims.getClaim(JwtUtils.CLAIM_EMAIL, String.class),
+                null,
+                Collections.singletonList(new SimpleGrantedAuthority(role)));
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return authorities;
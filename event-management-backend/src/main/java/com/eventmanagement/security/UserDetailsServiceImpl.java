@@ -1,5 +1,11 @@
 package com.eventmanagement.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -7,23 +13,50 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
+import com.eventmanagement.config.HibernateCacheConfig;
 import com.eventmanagement.entity.User;
-import com.eventmanagement.repository.UserRepository;
 
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
+    @PersistenceContext
+    EntityManager entityManager;
+
     @Autowired
-    UserRepository userRepository;
+    MeterRegistry meterRegistry;
+
+    private Timer loadTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        loadTimer = Timer.builder("auth.user.load")
+                .description("Loading a user for sign-in or database principal mode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
+        return loadTimer.record(() -> load(usernameOrEmail));
+    }
+
+    private UserDetails load(String usernameOrEmail) {
         // Allow users to login using either username or email
-        User user = (usernameOrEmail.contains("@")
-                ? userRepository.findByEmail(usernameOrEmail)
-                : userRepository.findByUsername(usernameOrEmail))
+        User user = findBy(usernameOrEmail.contains("@") ? "email" : "username", usernameOrEmail)
                 .orElseThrow(() -> new UsernameNotFoundException("User Not Found with identifier: " + usernameOrEmail));
 
         return UserDetailsImpl.build(user);
     }
+
+    // Query cache holds the matching id, the users region the row, so repeat lookups skip the database
+    private Optional<User> findBy(String attribute, String value) {
+        return entityManager.createQuery("select u from User u where u." + attribute + " = :value", User.class)
+                .setParameter("value", value)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, HibernateCacheConfig.USER_QUERIES)
+                .getResultStream()
+                .findFirst();
+    }
 }
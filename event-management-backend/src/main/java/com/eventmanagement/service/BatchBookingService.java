@@ -0,0 +1,170 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.BatchBookingResult;
+import com.eventmanagement.entity.Booking;
+import com.eventmanagement.entity.Event;
+import com.eventmanagement.repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Books several events for one user with one event lookup, one capacity check over the whole set
+ * and one JDBC-batched insert inside a single transaction.
+ */
+@Service
+public class BatchBookingService {
+    private static final String INSERT_BOOKING =
+            "INSERT INTO bookings (number_of_tickets, total_amount, status, booking_date, user_id, event_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Value("${booking.batch.maxItems:200}")
+    private int maxItems;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private SeatInventoryService seatInventory;
+
+    @Autowired
+    private SeatHoldService seatHolds;
+
+    @Autowired
+    private OutboxService outbox;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * With {@code allOrNothing} every item must fit or nothing is booked; otherwise items that fit are booked
+     * and the rest are reported as rejected.
+     */
+    public List<BatchBookingResult> createBookings(Long userId, List<Long> eventIds, List<Integer> tickets, boolean allOrNothing) {
+        Map<Long, Event> events = eventRepository.findAllById(eventIds.stream().distinct().toList()).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        List<BatchBookingResult> results = new ArrayList<>(eventIds.size());
+        List<Integer> reserved = new ArrayList<>();
+        boolean failed = false;
+        for (int i = 0; i < eventIds.size(); i++) {
+            Long eventId = eventIds.get(i);
+            Integer count = tickets.get(i);
+            Event event = events.get(eventId);
+            if (event == null) {
+                results.add(BatchBookingResult.rejected(i, eventId, count, "Event not found"));
+                failed = true;
+            } else if (count == null || count <= 0) {
+                results.add(BatchBookingResult.rejected(i, eventId, count, "numberOfTickets must be positive"));
+                failed = true;
+            } else if (!seatInventory.tryReserve(event, count)) {
+                results.add(BatchBookingResult.rejected(i, eventId, count, "Not enough seats available"));
+                failed = true;
+            } else {
+                BatchBookingResult result = new BatchBookingResult(i, eventId, count);
+                result.setTotalAmount(event.getTicketPrice().multiply(BigDecimal.valueOf(count)));
+                results.add(result);
+                reserved.add(i);
+            }
+            if (failed && allOrNothing) {
+                break;
+            }
+        }
+
+        if (failed && allOrNothing) {
+            for (int i : reserved) {
+                seatInventory.release(eventIds.get(i), tickets.get(i), false);
+                results.set(i, BatchBookingResult.rejected(i, eventIds.get(i), tickets.get(i), "Batch rejected"));
+            }
+            for (int i = results.size(); i < eventIds.size(); i++) {
+                results.add(BatchBookingResult.rejected(i, eventIds.get(i), tickets.get(i), "Batch rejected"));
+            }
+            return results;
+        }
+        if (reserved.isEmpty()) {
+            return results;
+        }
+
+        List<Long> ids;
+        try {
+            ids = transactionTemplate.execute(status -> {
+                List<Long> created = insertBookings(userId, results, reserved);
+                outbox.appendAll(OutboxService.BOOKING_CREATED, created);
+                return created;
+            });
+        } catch (RuntimeException e) {
+            for (int i : reserved) {
+                seatInventory.release(eventIds.get(i), tickets.get(i), false);
+            }
+            throw e;
+        }
+
+        for (int n = 0; n < reserved.size(); n++) {
+            int i = reserved.get(n);
+            BatchBookingResult result = results.get(i);
+            seatInventory.commit(events.get(result.getEventId()), result.getNumberOfTickets());
+            seatHolds.place(ids.get(n), result.getEventId(), result.getNumberOfTickets());
+            result.setBookingId(ids.get(n));
+            result.setOutcome(BatchBookingResult.Outcome.CREATED);
+        }
+        return results;
+    }
+
+    private List<Long> insertBookings(Long userId, List<BatchBookingResult> results, List<Integer> reserved) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return jdbcTemplate.execute((Connection connection) -> {
+            List<Long> ids = new ArrayList<>(reserved.size());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_BOOKING, Statement.RETURN_GENERATED_KEYS)) {
+                for (int i : reserved) {
+                    BatchBookingResult result = results.get(i);
+                    ps.setInt(1, result.getNumberOfTickets());
+                    ps.setBigDecimal(2, result.getTotalAmount());
+                    ps.setString(3, Booking.BookingStatus.PENDING.name());
+                    ps.setTimestamp(4, now);
+                    ps.setLong(5, userId);
+                    ps.setLong(6, result.getEventId());
+                    ps.setTimestamp(7, now);
+                    ps.setTimestamp(8, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+            }
+            return ids;
+        });
+    }
+}
@@ -0,0 +1,278 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.QueueStatusResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Virtual waiting room for booking on-sale spikes. When enabled, each event admits a bounded number of
+ * in-flight bookings; further callers wait in a fair FIFO queue without holding a request thread, and
+ * callers beyond the queue limit are turned away with their position and an estimated wait.
+ */
+@Service
+public class BookingAdmissionService {
+
+    @Value("${booking.admission.enabled:false}")
+    private boolean enabled;
+
+    @Value("${booking.admission.maxInFlightPerEvent:8}")
+    private int maxInFlightPerEvent;
+
+    @Value("${booking.admission.maxQueuedPerEvent:5000}")
+    private int maxQueuedPerEvent;
+
+    // Kept below the MVC async request timeout (30s on Tomcat) so a queued caller gets an answer before it
+    @Value("${booking.admission.maxWaitMs:20000}")
+    private long maxWaitMs;
+
+    @Value("${booking.admission.workerThreads:16}")
+    private int workerThreads;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // Backed by virtual threads when spring.threads.virtual.enabled is set on Java 21
+    @Autowired(required = false)
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    private final ConcurrentHashMap<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private Executor workers;
+
+    @PostConstruct
+    void init() {
+        if (enabled && virtualThreads && applicationTaskExecutor != null) {
+            // A thread per admitted booking is cheap here; the lanes still bound in-flight work per event
+            workers = applicationTaskExecutor;
+        } else if (enabled) {
+            AtomicInteger counter = new AtomicInteger();
+            workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), r -> {
+                        Thread t = new Thread(r, "booking-admission-" + counter.incrementAndGet());
+                        t.setDaemon(true);
+                        return t;
+                    });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (workers instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs the booking work for an event under admission control. With admission disabled the work runs
+     * inline on the calling thread. Callers still queued after {@code maxWaitMs} are answered with a 503 and
+     * their work never runs.
+     */
+    public CompletableFuture<ResponseEntity<?>> submit(Long eventId, Long userId, Supplier<ResponseEntity<?>> work) {
+        if (!enabled) {
+            return CompletableFuture.completedFuture(work.get());
+        }
+        Ticket ticket = new Ticket(userId, work, System.currentTimeMillis() + maxWaitMs);
+        Lane lane;
+        boolean admitted;
+        while (true) {
+            lane = lanes.computeIfAbsent(eventId, Lane::new);
+            synchronized (lane) {
+                if (lane.retired) {
+                    // Dropped as idle between the lookup and the lock; take the fresh lane
+                    continue;
+                }
+                if (lane.inFlight < maxInFlightPerEvent) {
+                    lane.inFlight++;
+                    admitted = true;
+                } else if (lane.waiting.size() >= maxQueuedPerEvent) {
+                    admitted = false;
+                } else {
+                    lane.enqueue(ticket);
+                    return ticket.result;
+                }
+            }
+            break;
+        }
+        if (!admitted) {
+            return CompletableFuture.completedFuture(unavailable(lane, "Booking queue is full, please retry"));
+        }
+        Lane admittedLane = lane;
+        workers.execute(() -> run(admittedLane, ticket));
+        return ticket.result;
+    }
+
+    /**
+     * Reports the caller's place in an event's queue: their position (1 is next to be admitted) and estimated
+     * wait, or position 0 and the wait a new arrival would face if they have nothing queued.
+     */
+    public QueueStatusResponse getQueueStatus(Long eventId, Long userId) {
+        Lane lane = lanes.get(eventId);
+        if (lane == null) {
+            return new QueueStatusResponse(eventId, 0, 0, 0, 0, enabled ? "No queue" : "Admission control disabled");
+        }
+        synchronized (lane) {
+            Ticket ticket = lane.byUser.get(userId);
+            if (ticket == null) {
+                return status(lane, 0, lane.waiting.size(), "Not queued");
+            }
+            int position = (int) (ticket.seq - lane.dequeued + 1);
+            return status(lane, position, position, "Queued");
+        }
+    }
+
+    /**
+     * Answers callers whose wait ran out and drops lanes with nothing queued or in flight. The queue is FIFO
+     * with one wait limit, so expired tickets are always at its head.
+     */
+    @Scheduled(fixedRateString = "${booking.admission.sweepMs:1000}")
+    public void expireWaiting() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, Lane> entry : lanes.entrySet()) {
+            Lane lane = entry.getValue();
+            List<Ticket> expired = new ArrayList<>();
+            synchronized (lane) {
+                while (!lane.waiting.isEmpty() && lane.waiting.peekFirst().deadline <= now) {
+                    expired.add(lane.poll());
+                }
+                if (lane.inFlight == 0 && lane.waiting.isEmpty()) {
+                    lane.retired = true;
+                    lanes.remove(entry.getKey(), lane);
+                }
+            }
+            timeOut(lane, expired);
+        }
+    }
+
+    private void run(Lane lane, Ticket ticket) {
+        long start = System.nanoTime();
+        try {
+            ticket.result.complete(ticket.work.get());
+        } catch (Throwable t) {
+            ticket.result.completeExceptionally(t);
+        } finally {
+            lane.recordServiceTime((System.nanoTime() - start) / 1_000_000.0);
+            long now = System.currentTimeMillis();
+            List<Ticket> expired = new ArrayList<>();
+            Ticket next;
+            synchronized (lane) {
+                // Skip callers who have already given up rather than book seats nobody will be told about
+                while ((next = lane.poll()) != null && (next.deadline <= now || next.result.isDone())) {
+                    expired.add(next);
+                }
+                if (next == null) {
+                    lane.inFlight--;
+                }
+            }
+            timeOut(lane, expired);
+            // The freed slot passes straight to the head of the queue
+            if (next != null) {
+                Ticket admitted = next;
+                workers.execute(() -> run(lane, admitted));
+            }
+        }
+    }
+
+    private void timeOut(Lane lane, List<Ticket> expired) {
+        for (Ticket ticket : expired) {
+            ticket.result.complete(unavailable(lane, "Timed out waiting for admission, please retry"));
+        }
+    }
+
+    private ResponseEntity<?> unavailable(Lane lane, String message) {
+        QueueStatusResponse status;
+        synchronized (lane) {
+            status = status(lane, 0, lane.waiting.size(), message);
+        }
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, status.getEstimatedWaitMs() / 1000)))
+                .body(status);
+    }
+
+    // Callers ahead are admitted maxInFlightPerEvent at a time, each batch taking about one service time
+    private QueueStatusResponse status(Lane lane, int position, int ahead, String message) {
+        long eta = (long) (Math.ceil(ahead / (double) Math.max(1, maxInFlightPerEvent)) * lane.avgServiceMs);
+        return new QueueStatusResponse(lane.eventId, position, lane.waiting.size(), lane.inFlight, eta, message);
+    }
+
+    static final class Ticket {
+        final Long userId;
+        final Supplier<ResponseEntity<?>> work;
+        final long deadline;
+        final CompletableFuture<ResponseEntity<?>> result = new CompletableFuture<>();
+        long seq;
+
+        Ticket(Long userId, Supplier<ResponseEntity<?>> work, long deadline) {
+            this.userId = userId;
+            this.work = work;
+            this.deadline = deadline;
+        }
+    }
+
+    static final class Lane {
+        final Long eventId;
+        final ArrayDeque<Ticket> waiting = new ArrayDeque<>();
+        // Each user's latest queued ticket; FIFO order means it is also the last of theirs to be admitted
+        final Map<Long, Ticket> byUser = new HashMap<>();
+        long enqueued;
+        // Tickets only ever leave from the head, so a ticket's position is its sequence minus this count
+        long dequeued;
+        int inFlight;
+        boolean retired;
+        volatile double avgServiceMs = 50;
+
+        Lane(Long eventId) {
+            this.eventId = eventId;
+        }
+
+        void enqueue(Ticket ticket) {
+            ticket.seq = enqueued++;
+            waiting.addLast(ticket);
+            byUser.put(ticket.userId, ticket);
+        }
+
+        Ticket poll() {
+            Ticket ticket = waiting.pollFirst();
+            if (ticket != null) {
+                dequeued++;
+                byUser.remove(ticket.userId, ticket);
+            }
+            return ticket;
+        }
+
+        void recordServiceTime(double ms) {
+            // Exponentially weighted so the estimate follows the current DB latency
+            avgServiceMs = avgServiceMs * 0.9 + ms * 0.1;
+        }
+    }
+}
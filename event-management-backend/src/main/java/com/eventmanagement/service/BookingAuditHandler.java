@@ -0,0 +1,43 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.OutboxMessage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+
+/**
+ * Appends one booking_audit row per booking message. The unique message id makes redelivery a no-op.
+ */
+@Component
+public class BookingAuditHandler implements OutboxHandler {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String getName() {
+        return "booking-audit";
+    }
+
+    @Override
+    public boolean handles(String messageType) {
+        return messageType.startsWith("BOOKING_");
+    }
+
+    @Override
+    public void handle(OutboxMessage message) {
+        try {
+            // Records the status as of delivery; a booking deleted with its event meanwhile leaves no row
+            jdbcTemplate.update("INSERT INTO booking_audit (message_id, message_type, booking_id, event_id, user_id, " +
+                            "booking_status, number_of_tickets, total_amount, recorded_at) " +
+                            "SELECT ?, ?, b.id, b.event_id, b.user_id, b.status, b.number_of_tickets, b.total_amount, ? " +
+                            "FROM bookings b WHERE b.id = ?",
+                    message.getId(), message.getType(), new Timestamp(System.currentTimeMillis()), message.getAggregateId());
+        } catch (DuplicateKeyException e) {
+            // Delivered before; the earlier attempt's row stands
+        }
+    }
+}
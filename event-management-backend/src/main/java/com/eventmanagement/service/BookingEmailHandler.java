@@ -0,0 +1,101 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.OutboxMessage;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Booking confirmation, receipt and cancellation emails. Mail goes through SMTP when spring.mail.host is set
+ * (point it at a local stub such as MailHog on port 1025 for testing); otherwise it is written to the log.
+ * The Message-ID is derived from the outbox message id so a redelivered email can be recognized downstream.
+ */
+@Component
+public class BookingEmailHandler implements OutboxHandler {
+    private static final Logger log = LoggerFactory.getLogger(BookingEmailHandler.class);
+
+    @Value("${booking.mail.from:no-reply@eventhub.com}")
+    private String from;
+
+    @Autowired
+    private ObjectProvider<JavaMailSender> mailSender;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public String getName() {
+        return "booking-email";
+    }
+
+    @Override
+    public boolean handles(String messageType) {
+        return messageType.startsWith("BOOKING_");
+    }
+
+    @Override
+    public void handle(OutboxMessage message) throws Exception {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select u.email, u.firstName, e.title, e.startDateTime, e.location, b.numberOfTickets, " +
+                        "b.totalAmount from Booking b join b.user u join b.event e where b.id = :id", Object[].class)
+                .setParameter("id", message.getAggregateId())
+                .getResultList();
+        if (rows.isEmpty()) {
+            log.info("Booking {} no longer exists, skipping {} email", message.getAggregateId(), message.getType());
+            return;
+        }
+        Object[] row = rows.get(0);
+        String to = (String) row[0];
+        String subject = subject(message.getType(), (String) row[2]);
+        String body = "Hi " + row[1] + ",\n\n" + summary(message.getType()) + "\n\n"
+                + "Event: " + row[2] + "\n"
+                + "When: " + row[3] + "\n"
+                + "Where: " + row[4] + "\n"
+                + "Tickets: " + row[5] + "\n"
+                + "Total: " + row[6] + "\n"
+                + "Booking reference: " + message.getAggregateId() + "\n";
+
+        JavaMailSender sender = mailSender.getIfAvailable();
+        if (sender == null) {
+            log.info("Email to {} [{}]\n{}", to, subject, body);
+            return;
+        }
+        MimeMessage mime = sender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mime, "UTF-8");
+        helper.setFrom(from);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(body);
+        // JavaMailSenderImpl keeps an explicitly set Message-ID when it finalizes the message
+        mime.setHeader("Message-ID", "<booking-" + message.getId() + "@eventhub.com>");
+        sender.send(mime);
+    }
+
+    private static String subject(String type, String title) {
+        return switch (type) {
+            case OutboxService.BOOKING_CONFIRMED -> "Your tickets for " + title + " are confirmed";
+            case OutboxService.BOOKING_CANCELLED -> "Your booking for " + title + " was cancelled";
+            case OutboxService.BOOKING_EXPIRED -> "Your hold for " + title + " has expired";
+            default -> "We received your booking for " + title;
+        };
+    }
+
+    private static String summary(String type) {
+        return switch (type) {
+            case OutboxService.BOOKING_CONFIRMED -> "Your booking is confirmed. This email is your receipt.";
+            case OutboxService.BOOKING_CANCELLED -> "Your booking has been cancelled and the seats released.";
+            case OutboxService.BOOKING_EXPIRED -> "Your booking was not confirmed in time, so the seats were released.";
+            default -> "Your seats are held while the booking is confirmed.";
+        };
+    }
+}
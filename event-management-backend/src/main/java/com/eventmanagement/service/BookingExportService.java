@@ -0,0 +1,141 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.BookingSummary;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes all bookings of an event as NDJSON or CSV while reading them from a forward-only result stream,
+ * so memory use does not depend on the number of bookings.
+ */
+@Service
+public class BookingExportService {
+    public enum Format { NDJSON, CSV }
+
+    private static final String CSV_HEADER =
+            "bookingId,status,numberOfTickets,totalAmount,bookingDate,userId,username,firstName,lastName";
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows one by one instead of buffering the result set
+    @Value("${booking.export.fetchSize:-2147483648}")
+    private int fetchSize;
+
+    @Value("${booking.export.flushEvery:500}")
+    private int flushEvery;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ObjectWriter rowWriter;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        // Flushing is batched below rather than done after every row
+        rowWriter = objectMapper.writerFor(BookingSummary.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public void export(Long eventId, Format format, OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Rows are DTO projections, so nothing accumulates in the persistence context while streaming
+            try (Stream<BookingSummary> rows = entityManager.createQuery(
+                            BookingSummary.SELECT + " where e.id = :eventId order by b.id", BookingSummary.class)
+                    .setParameter("eventId", eventId)
+                    .setHint("org.hibernate.fetchSize", fetchSize)
+                    .setHint("org.hibernate.readOnly", true)
+                    .getResultStream()) {
+                if (format == Format.CSV) {
+                    writeCsv(rows.iterator(), out);
+                } else {
+                    writeNdjson(rows.iterator(), out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeNdjson(Iterator<BookingSummary> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Rows are separated by the newline alone, without the default space before each root value
+        generator.setRootValueSeparator(null);
+        int written = 0;
+        while (rows.hasNext()) {
+            rowWriter.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+            if (++written % flushEvery == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<BookingSummary> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        int written = 0;
+        while (rows.hasNext()) {
+            BookingSummary booking = rows.next();
+            writer.write(String.join(",",
+                    String.valueOf(booking.getId()),
+                    csv(booking.getStatus()),
+                    csv(booking.getNumberOfTickets()),
+                    csv(booking.getTotalAmount()),
+                    csv(booking.getBookingDate()),
+                    csv(booking.getUser().getId()),
+                    csv(booking.getUser().getUsername()),
+                    csv(booking.getUser().getFirstName()),
+                    csv(booking.getUser().getLastName())));
+            writer.write('\n');
+            if (++written % flushEvery == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        // Keep spreadsheet tools from evaluating user-supplied names as formulas
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,86 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.Booking;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Single-booking writes together with their outbox messages, committed in one transaction. Everything triggered
+ * by a booking (emails, receipts, audit) runs later from the outbox, off the buyer's request.
+ */
+@Service
+public class BookingWriteService {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private OutboxService outbox;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public Booking createBooking(Booking booking) {
+        Booking created = bookingService.createBooking(booking);
+        outbox.append(OutboxService.BOOKING_CREATED, created.getId());
+        return created;
+    }
+
+    /**
+     * Saves a status change made on the booking and announces confirmations and cancellations.
+     */
+    @Transactional
+    public Booking updateBooking(Booking booking) {
+        Booking updated = bookingService.updateBooking(booking);
+        if (updated.getStatus() == Booking.BookingStatus.CONFIRMED) {
+            outbox.append(OutboxService.BOOKING_CONFIRMED, updated.getId());
+        } else if (updated.getStatus() == Booking.BookingStatus.CANCELLED) {
+            outbox.append(OutboxService.BOOKING_CANCELLED, updated.getId());
+        }
+        return updated;
+    }
+
+    /**
+     * Confirms the booking with one conditional update, so it only succeeds while the booking is still PENDING and
+     * never overwrites a cancellation that committed first.
+     *
+     * @return true if this call confirmed the booking
+     */
+    @Transactional
+    public boolean confirmBooking(Long id) {
+        int changed = entityManager.createQuery(
+                        "update Booking b set b.status = :confirmed, b.updatedAt = CURRENT_TIMESTAMP " +
+                        "where b.id = :id and b.status = :pending")
+                .setParameter("confirmed", Booking.BookingStatus.CONFIRMED)
+                .setParameter("id", id)
+                .setParameter("pending", Booking.BookingStatus.PENDING)
+                .executeUpdate();
+        if (changed == 1) {
+            outbox.append(OutboxService.BOOKING_CONFIRMED, id);
+        }
+        return changed == 1;
+    }
+
+    /**
+     * Cancels the booking with one conditional update, so of several concurrent cancels exactly one succeeds.
+     *
+     * @return true if this call cancelled the booking and its seats should be returned
+     */
+    @Transactional
+    public boolean cancelBooking(Long id) {
+        int changed = entityManager.createQuery(
+                        "update Booking b set b.status = :cancelled, b.updatedAt = CURRENT_TIMESTAMP " +
+                        "where b.id = :id and b.status <> :cancelled")
+                .setParameter("cancelled", Booking.BookingStatus.CANCELLED)
+                .setParameter("id", id)
+                .executeUpdate();
+        if (changed == 1) {
+            outbox.append(OutboxService.BOOKING_CANCELLED, id);
+        }
+        return changed == 1;
+    }
+}
@@ -0,0 +1,147 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.BulkBookingResponse;
+import com.eventmanagement.entity.Booking;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Set-based status changes for many bookings at once, applied in chunks of {@code UPDATE ... WHERE id IN (...)}.
+ */
+@Service
+public class BulkBookingService {
+
+    @Value("${booking.bulk.chunkSize:1000}")
+    private int chunkSize;
+
+    @Autowired
+    private SeatInventoryService seatInventory;
+
+    @Autowired
+    private SeatHoldService seatHolds;
+
+    @Autowired
+    private EventResponseCache eventCache;
+
+    @Autowired
+    private OutboxService outbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public List<Long> findIds(Long eventId, Booking.BookingStatus status) {
+        return entityManager.createQuery(
+                        "select b.id from Booking b where b.event.id = :eventId and b.status = :status", Long.class)
+                .setParameter("eventId", eventId)
+                .setParameter("status", status)
+                .getResultList();
+    }
+
+    public BulkBookingResponse confirm(List<Long> ids) {
+        return apply(ids, Booking.BookingStatus.CONFIRMED, List.of(Booking.BookingStatus.PENDING));
+    }
+
+    public BulkBookingResponse cancel(List<Long> ids) {
+        return apply(ids, Booking.BookingStatus.CANCELLED,
+                List.of(Booking.BookingStatus.PENDING, Booking.BookingStatus.CONFIRMED));
+    }
+
+    private BulkBookingResponse apply(List<Long> ids, Booking.BookingStatus target, List<Booking.BookingStatus> from) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        int updated = 0;
+        int seatsReleased = 0;
+        List<Long> rejectedIds = new ArrayList<>();
+        for (int start = 0; start < distinctIds.size(); start += chunkSize) {
+            List<Long> chunk = distinctIds.subList(start, Math.min(start + chunkSize, distinctIds.size()));
+            List<Long> candidates = target == Booking.BookingStatus.CONFIRMED
+                    ? withoutExpiredHolds(chunk, rejectedIds) : chunk;
+            if (candidates.isEmpty()) {
+                continue;
+            }
+            List<Object[]> changed = transactionTemplate.execute(status -> updateChunk(candidates, target, from));
+            if (changed == null) {
+                continue;
+            }
+            updated += changed.size();
+
+            Map<Long, Integer> freedPerEvent = new HashMap<>();
+            for (Object[] row : changed) {
+                // Holds end only for rows the committed update changed; an expired hold finds the row no longer
+                // PENDING and frees nothing
+                seatHolds.release((Long) row[0]);
+                eventCache.invalidate((Long) row[1]);
+                if (target == Booking.BookingStatus.CANCELLED) {
+                    freedPerEvent.merge((Long) row[1], ((Number) row[2]).intValue(), Integer::sum);
+                }
+            }
+            for (Map.Entry<Long, Integer> freed : freedPerEvent.entrySet()) {
+                seatInventory.release(freed.getKey(), freed.getValue(), true);
+                seatsReleased += freed.getValue();
+            }
+        }
+        return new BulkBookingResponse(distinctIds.size(), updated, distinctIds.size() - updated - rejectedIds.size(),
+                rejectedIds, seatsReleased);
+    }
+
+    // As for a single confirm, a booking whose hold already lapsed is rejected: the expiry sweep is cancelling it.
+    // The holds themselves stay until the update has committed
+    private List<Long> withoutExpiredHolds(List<Long> chunk, List<Long> rejectedIds) {
+        List<Long> held = new ArrayList<>(chunk.size());
+        for (Long id : chunk) {
+            if (seatHolds.isExpired(id)) {
+                rejectedIds.add(id);
+            } else {
+                held.add(id);
+            }
+        }
+        return held;
+    }
+
+    private List<Object[]> updateChunk(List<Long> chunk, Booking.BookingStatus target, List<Booking.BookingStatus> from) {
+        // Lock the rows first so the seats freed match exactly the rows this statement changes
+        List<Object[]> eligible = entityManager.createQuery(
+                        "select b.id, b.event.id, b.numberOfTickets from Booking b " +
+                        "where b.id in :ids and b.status in :from", Object[].class)
+                .setParameter("ids", chunk)
+                .setParameter("from", from)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (eligible.isEmpty()) {
+            return eligible;
+        }
+        List<Long> eligibleIds = new ArrayList<>(eligible.size());
+        for (Object[] row : eligible) {
+            eligibleIds.add((Long) row[0]);
+        }
+        entityManager.createQuery(
+                        "update Booking b set b.status = :target, b.updatedAt = CURRENT_TIMESTAMP where b.id in :ids")
+                .setParameter("target", target)
+                .setParameter("ids", eligibleIds)
+                .executeUpdate();
+        outbox.appendAll(target == Booking.BookingStatus.CONFIRMED
+                ? OutboxService.BOOKING_CONFIRMED : OutboxService.BOOKING_CANCELLED, eligibleIds);
+        return eligible;
+    }
+}
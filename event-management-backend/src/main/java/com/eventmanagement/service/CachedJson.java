@@ -0,0 +1,35 @@
+package com.eventmanagement.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Serialized JSON response body with a strong ETag derived from its content.
+ */
+public final class CachedJson {
+    private final byte[] json;
+    private final String etag;
+
+    private CachedJson(byte[] json, String etag) {
+        this.json = json;
+        this.etag = etag;
+    }
+
+    public static CachedJson of(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return new CachedJson(json, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+}
@@ -0,0 +1,92 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.Category;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Immutable, pre-serialized snapshot of the category catalog with strong ETags.
+ * The whole snapshot is swapped atomically whenever a category is created, updated or deleted on this node,
+ * and rebuilt periodically so changes made through other nodes show up within categories.cache.refreshMs.
+ */
+@Service
+public class CategoryCatalogCache {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // A lock rather than synchronized: rebuild queries the database, and blocking inside a monitor would pin
+    // the carrier thread when requests run on virtual threads
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+
+    public CachedJson getAll() {
+        return current().all;
+    }
+
+    public CachedJson getById(Long id) {
+        return current().byId.get(id);
+    }
+
+    @Scheduled(fixedDelayString = "${categories.cache.refreshMs:60000}", initialDelayString = "${categories.cache.refreshMs:60000}")
+    public void refresh() {
+        // Nothing to refresh until the first request builds the snapshot
+        if (snapshot != null) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            List<Category> categories = categoryService.getAllCategories();
+            Map<Long, CachedJson> byId = new HashMap<>();
+            for (Category category : categories) {
+                byId.put(category.getId(), CachedJson.of(objectMapper.writeValueAsBytes(category)));
+            }
+            snapshot = new Snapshot(CachedJson.of(objectMapper.writeValueAsBytes(categories)), Map.copyOf(byId));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize category catalog", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuildLock.lock();
+            try {
+                if (snapshot == null) {
+                    rebuild();
+                }
+                current = snapshot;
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    static final class Snapshot {
+        final CachedJson all;
+        final Map<Long, CachedJson> byId;
+
+        Snapshot(CachedJson all, Map<Long, CachedJson> byId) {
+            this.all = all;
+            this.byId = byId;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.Event;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-serialized JSON of single events for {@code GET /api/events/{id}}. Concurrent misses on one id share a
+ * single load; entries are dropped whenever the event or its bookings change.
+ */
+@Service
+public class EventResponseCache {
+
+    @Value("${events.cache.maxEntries:10000}")
+    private int maxEntries;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, CompletableFuture<CachedJson>> entries = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        // Deliberately not read-only: a fill right after an invalidation must not read a lagging replica
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @return the serialized event, or null if it does not exist
+     */
+    public CachedJson get(Long id) {
+        CompletableFuture<CachedJson> future = entries.get(id);
+        if (future != null) {
+            return join(future);
+        }
+        CompletableFuture<CachedJson> created = new CompletableFuture<>();
+        future = entries.putIfAbsent(id, created);
+        if (future != null) {
+            return join(future);
+        }
+        evictIfFull();
+        load(id, created);
+        return join(created);
+    }
+
+    /**
+     * Drops the event's entry now and, when called inside a transaction, again after it commits, so a load
+     * racing with the write cannot leave the old state cached.
+     */
+    public void invalidate(Long id) {
+        entries.remove(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Drops every entry, e.g. after a change to data embedded in many events such as a category name.
+     */
+    public void invalidateAll() {
+        entries.clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.clear();
+                }
+            });
+        }
+    }
+
+    private void load(Long id, CompletableFuture<CachedJson> future) {
+        try {
+            // Serialized inside the transaction so lazy associations resolve the same way the entity response did
+            CachedJson json = transactionTemplate.execute(status -> {
+                Event event = eventService.getEventById(id).orElse(null);
+                return event == null ? null : serialize(event);
+            });
+            future.complete(json);
+            if (json == null) {
+                // Missing ids are not remembered; the event may be created later
+                entries.remove(id, future);
+            }
+        } catch (RuntimeException | Error e) {
+            entries.remove(id, future);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private CachedJson serialize(Event event) {
+        try {
+            return CachedJson.of(objectMapper.writeValueAsBytes(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize event " + event.getId(), e);
+        }
+    }
+
+    private void evictIfFull() {
+        Iterator<Long> ids = entries.keySet().iterator();
+        while (entries.size() > maxEntries && ids.hasNext()) {
+            Long id = ids.next();
+            CompletableFuture<CachedJson> future = entries.get(id);
+            if (future != null && future.isDone()) {
+                entries.remove(id, future);
+            }
+        }
+    }
+
+    private static CachedJson join(CompletableFuture<CachedJson> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.Category;
+import com.eventmanagement.entity.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory inverted index over published events' title, description, location and category name.
+ * Built at startup and kept current from the event write paths, so keyword search never scans the events table.
+ */
+@Service
+public class EventSearchIndex {
+    private static final Logger log = LoggerFactory.getLogger(EventSearchIndex.class);
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float CATEGORY_WEIGHT = 2.0f;
+    private static final float LOCATION_WEIGHT = 1.5f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float PREFIX_MATCH_FACTOR = 0.5f;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int REBUILD_PAGE_SIZE = 5000;
+    private static final String SELECT_DOCUMENTS =
+            "select e.id, e.title, e.description, e.location, c.id, c.name, e.startDateTime " +
+            "from Event e left join e.category c where e.status = :published ";
+
+    @Value("${search.index.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean ready;
+
+    // Ids touched while a rebuild is loading, replayed onto its snapshot; null when no rebuild runs
+    private final Object changesLock = new Object();
+    private Set<Long> changesDuringRebuild;
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        return snapshot.documents.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        synchronized (changesLock) {
+            changesDuringRebuild = new HashSet<>();
+        }
+        Snapshot fresh = new Snapshot();
+        Set<Long> changed;
+        try {
+            // Seek past the last id instead of an OFFSET, which rescans every earlier row on each page
+            long lastId = 0;
+            List<Object[]> rows;
+            do {
+                rows = entityManager.createQuery(SELECT_DOCUMENTS + "and e.id > :lastId order by e.id", Object[].class)
+                        .setParameter("published", Event.EventStatus.PUBLISHED)
+                        .setParameter("lastId", lastId)
+                        .setMaxResults(REBUILD_PAGE_SIZE)
+                        .getResultList();
+                for (Object[] row : rows) {
+                    fresh.put(document(row));
+                }
+                if (!rows.isEmpty()) {
+                    lastId = (Long) rows.get(rows.size() - 1)[0];
+                }
+            } while (rows.size() == REBUILD_PAGE_SIZE);
+            snapshot = fresh;
+        } finally {
+            synchronized (changesLock) {
+                changed = changesDuringRebuild;
+                changesDuringRebuild = null;
+            }
+        }
+        // A page read before a write may hold the event as it was; from here on writes land on the new snapshot
+        // directly, so reloading the ids written meanwhile leaves every document current
+        for (Long eventId : changed) {
+            reload(fresh, eventId);
+        }
+        ready = true;
+        log.info("Built event search index with {} events ({} replayed) in {} ms", fresh.documents.size(),
+                changed.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Re-reads the indexed events of a category after it was renamed or deleted, so their category terms
+     * follow the catalog.
+     */
+    public void reindexCategory(Long categoryId) {
+        if (!enabled || categoryId == null) {
+            return;
+        }
+        Snapshot current = snapshot;
+        List<Long> ids = current.documents.values().stream()
+                .filter(document -> categoryId.equals(document.categoryId))
+                .map(document -> document.id)
+                .toList();
+        for (int from = 0; from < ids.size(); from += REBUILD_PAGE_SIZE) {
+            Set<Long> chunk = new HashSet<>(ids.subList(from, Math.min(from + REBUILD_PAGE_SIZE, ids.size())));
+            chunk.forEach(this::recordChange);
+            List<Object[]> rows = entityManager.createQuery(SELECT_DOCUMENTS + "and e.id in :ids", Object[].class)
+                    .setParameter("published", Event.EventStatus.PUBLISHED)
+                    .setParameter("ids", chunk)
+                    .getResultList();
+            for (Object[] row : rows) {
+                current.put(document(row));
+                chunk.remove((Long) row[0]);
+            }
+            // Unpublished or deleted since they were indexed
+            chunk.forEach(current::remove);
+        }
+    }
+
+    /**
+     * Adds, refreshes or drops an event after a write, depending on whether it is published.
+     */
+    public void index(Event event) {
+        if (!enabled || event == null || event.getId() == null) {
+            return;
+        }
+        if (event.getStatus() != Event.EventStatus.PUBLISHED) {
+            remove(event.getId());
+            return;
+        }
+        recordChange(event.getId());
+        Snapshot current = snapshot;
+        Category category = event.getCategory();
+        Long categoryId = category != null ? category.getId() : null;
+        String categoryName = category != null ? category.getName() : null;
+        if (categoryName == null && categoryId != null) {
+            // Update payloads only carry the category id
+            Document previous = current.documents.get(event.getId());
+            categoryName = previous != null && categoryId.equals(previous.categoryId)
+                    ? previous.categoryName
+                    : categoryService.getCategoryById(categoryId).map(Category::getName).orElse(null);
+        }
+        current.put(new Document(event.getId(), event.getTitle(), event.getDescription(), event.getLocation(),
+                categoryId, categoryName, event.getStartDateTime()));
+    }
+
+    public void remove(Long eventId) {
+        recordChange(eventId);
+        snapshot.remove(eventId);
+    }
+
+    private void recordChange(Long eventId) {
+        synchronized (changesLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(eventId);
+            }
+        }
+    }
+
+    private void reload(Snapshot target, Long eventId) {
+        List<Object[]> rows = entityManager.createQuery(SELECT_DOCUMENTS + "and e.id = :id", Object[].class)
+                .setParameter("published", Event.EventStatus.PUBLISHED)
+                .setParameter("id", eventId)
+                .getResultList();
+        if (rows.isEmpty()) {
+            target.remove(eventId);
+        } else {
+            target.put(document(rows.get(0)));
+        }
+    }
+
+    /**
+     * Returns the ids of matching events for one page, best match first and then by start time.
+     * Every keyword token must match a whole term or, from two characters on, a term prefix.
+     */
+    public SearchResult search(String keyword, int page, int size) {
+        List<String> tokens = tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+        Snapshot current = snapshot;
+        Map<Long, Float> scores = null;
+        for (String token : tokens) {
+            Map<Long, Float> tokenScores = match(current, token);
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                Map<Long, Float> previous = scores;
+                scores = new HashMap<>();
+                for (Map.Entry<Long, Float> entry : tokenScores.entrySet()) {
+                    Float score = previous.get(entry.getKey());
+                    if (score != null) {
+                        scores.put(entry.getKey(), score + entry.getValue());
+                    }
+                }
+            }
+            if (scores.isEmpty()) {
+                return new SearchResult(List.of(), 0);
+            }
+        }
+
+        List<Map.Entry<Long, Float>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Comparator.<Map.Entry<Long, Float>>comparingDouble(Map.Entry::getValue).reversed()
+                .thenComparing(e -> startOf(current, e.getKey()), Comparator.nullsLast(Comparator.naturalOrder())));
+        int from = Math.min(page * size, ranked.size());
+        int to = Math.min(from + size, ranked.size());
+        List<Long> ids = new ArrayList<>(to - from);
+        for (Map.Entry<Long, Float> entry : ranked.subList(from, to)) {
+            ids.add(entry.getKey());
+        }
+        return new SearchResult(ids, ranked.size());
+    }
+
+    private static Map<Long, Float> match(Snapshot current, String token) {
+        Map<Long, Float> result = new HashMap<>();
+        Map<String, ConcurrentHashMap<Long, Float>> terms = token.length() >= MIN_PREFIX_LENGTH
+                ? current.postings.subMap(token, true, token + Character.MAX_VALUE, false)
+                : exact(current, token);
+        for (Map.Entry<String, ConcurrentHashMap<Long, Float>> term : terms.entrySet()) {
+            float factor = term.getKey().equals(token) ? 1.0f : PREFIX_MATCH_FACTOR;
+            for (Map.Entry<Long, Float> posting : term.getValue().entrySet()) {
+                // A token counts once per document, through its best matching term
+                result.merge(posting.getKey(), posting.getValue() * factor, Math::max);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, ConcurrentHashMap<Long, Float>> exact(Snapshot current, String token) {
+        ConcurrentHashMap<Long, Float> docs = current.postings.get(token);
+        return docs == null ? Map.of() : Map.of(token, docs);
+    }
+
+    private static LocalDateTime startOf(Snapshot current, Long eventId) {
+        Document document = current.documents.get(eventId);
+        return document != null ? document.startDateTime : null;
+    }
+
+    private static Document document(Object[] row) {
+        return new Document((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                (Long) row[4], (String) row[5], (LocalDateTime) row[6]);
+    }
+
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public static final class SearchResult {
+        private final List<Long> ids;
+        private final long total;
+
+        SearchResult(List<Long> ids, long total) {
+            this.ids = ids;
+            this.total = total;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+
+    static final class Snapshot {
+        final ConcurrentSkipListMap<String, ConcurrentHashMap<Long, Float>> postings = new ConcurrentSkipListMap<>();
+        final ConcurrentHashMap<Long, Document> documents = new ConcurrentHashMap<>();
+
+        synchronized void put(Document document) {
+            Document previous = documents.put(document.id, document);
+            if (previous != null) {
+                unpost(previous);
+            }
+            for (Map.Entry<String, Float> term : document.terms.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), k -> new ConcurrentHashMap<>()).put(document.id, term.getValue());
+            }
+        }
+
+        synchronized void remove(Long eventId) {
+            Document previous = documents.remove(eventId);
+            if (previous != null) {
+                unpost(previous);
+            }
+        }
+
+        private void unpost(Document document) {
+            for (String term : document.terms.keySet()) {
+                ConcurrentHashMap<Long, Float> docs = postings.get(term);
+                if (docs != null) {
+                    docs.remove(document.id);
+                    if (docs.isEmpty()) {
+                        postings.remove(term, docs);
+                    }
+                }
+            }
+        }
+    }
+
+    static final class Document {
+        final Long id;
+        final Long categoryId;
+        final String categoryName;
+        final LocalDateTime startDateTime;
+        final Map<String, Float> terms = new HashMap<>();
+
+        Document(Long id, String title, String description, String location, Long categoryId, String categoryName,
+                 LocalDateTime startDateTime) {
+            this.id = id;
+            this.categoryId = categoryId;
+            this.categoryName = categoryName;
+            this.startDateTime = startDateTime;
+            addTerms(title, TITLE_WEIGHT);
+            addTerms(categoryName, CATEGORY_WEIGHT);
+            addTerms(location, LOCATION_WEIGHT);
+            addTerms(description, DESCRIPTION_WEIGHT);
+        }
+
+        private void addTerms(String text, float weight) {
+            for (String token : tokenize(text)) {
+                terms.merge(token, weight, Float::sum);
+            }
+        }
+    }
+}
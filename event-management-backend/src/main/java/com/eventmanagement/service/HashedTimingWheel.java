@@ -0,0 +1,113 @@
+package com.eventmanagement.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed timing wheel: O(1) scheduling and cancellation of many timeouts that are expired in bulk by a single
+ * driver calling {@link #advance(long)}. Timeouts fire on the first tick at or after their deadline.
+ * New timeouts are queued and only placed into buckets by the driver, so none can land in a bucket it has
+ * already swept.
+ */
+public class HashedTimingWheel<T> {
+    private final long tickMs;
+    private final int mask;
+    private final ArrayDeque<Timeout<T>>[] buckets;
+    private final ConcurrentLinkedQueue<Timeout<T>> scheduled = new ConcurrentLinkedQueue<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMs, int wheelSize, long nowMillis) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.tickMs = tickMs;
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.currentTick = nowMillis / tickMs;
+    }
+
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis);
+        // Ceiling division so nothing fires before its deadline
+        timeout.targetTick = (deadlineMillis + tickMs - 1) / tickMs;
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Moves the wheel up to {@code nowMillis} and returns the payloads of timeouts that expired, in one batch.
+     * Must only be called from a single driver thread.
+     */
+    public List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMs;
+        List<T> expired = new ArrayList<>();
+        long from = currentTick + 1;
+        // After a long pause every bucket only needs to be swept once
+        long firstTick = Math.max(from, targetTick - mask);
+        // Ticks already passed go to the first one swept now
+        for (Timeout<T> timeout; (timeout = scheduled.poll()) != null; ) {
+            if (timeout.state.get() != Timeout.CANCELLED) {
+                buckets[(int) (Math.max(timeout.targetTick, firstTick) & mask)].add(timeout);
+            }
+        }
+        for (long tick = firstTick; tick <= targetTick; tick++) {
+            currentTick = tick;
+            Iterator<Timeout<T>> it = buckets[(int) (tick & mask)].iterator();
+            while (it.hasNext()) {
+                Timeout<T> timeout = it.next();
+                if (timeout.state.get() == Timeout.CANCELLED) {
+                    it.remove();
+                } else if (timeout.targetTick <= targetTick) {
+                    it.remove();
+                    if (timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+                        expired.add(timeout.payload);
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    public static final class Timeout<T> {
+        static final int PENDING = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+
+        private final T payload;
+        private final long deadlineMillis;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private long targetTick;
+
+        Timeout(T payload, long deadlineMillis) {
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * Returns true if this call stopped the timeout before it fired.
+         */
+        public boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.BookingSummary;
+import com.eventmanagement.dto.CursorPage;
+import com.eventmanagement.dto.EventSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) pagination: seeks past the last row of the previous page by (sort key, id) instead of
+ * using OFFSET, and never runs a count query. Pages hold the same projections as {@link ReadModelService}, so a
+ * page is one select whatever its contents. Cursors are opaque to clients.
+ * Null sort keys order before all others, as MySQL and H2 sort them.
+ */
+@Service
+@Transactional(readOnly = true)
+public class KeysetPaginationService {
+    private static final Map<String, Function<EventSummary, LocalDateTime>> EVENT_SORT_KEYS = Map.of(
+            "startDateTime", EventSummary::getStartDateTime,
+            "createdAt", EventSummary::getCreatedAt);
+    private static final Map<String, Function<BookingSummary, LocalDateTime>> BOOKING_SORT_KEYS = Map.of(
+            "bookingDate", BookingSummary::getBookingDate,
+            "createdAt", BookingSummary::getCreatedAt);
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String CURSOR_VERSION = "v1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param filter JPQL condition on the event alias {@code e}, or null
+     * @param cursor cursor returned with the previous page, or empty/null for the first page
+     */
+    public CursorPage<EventSummary> seekEvents(String filter, Map<String, Object> params, String sortField,
+                                               boolean descending, String cursor, int size) {
+        return seek(EventSummary.SELECT, "e", EventSummary.class, EventSummary::getId, EVENT_SORT_KEYS,
+                filter, params, sortField, descending, cursor, size);
+    }
+
+    /**
+     * @param filter JPQL condition on the booking alias {@code b}, or null
+     */
+    public CursorPage<BookingSummary> seekBookings(String filter, Map<String, Object> params, String sortField,
+                                                   boolean descending, String cursor, int size) {
+        return seek(BookingSummary.SELECT, "b", BookingSummary.class, BookingSummary::getId, BOOKING_SORT_KEYS,
+                filter, params, sortField, descending, cursor, size);
+    }
+
+    private <T> CursorPage<T> seek(String select, String alias, Class<T> type, Function<T, Long> idOf,
+                                   Map<String, Function<T, LocalDateTime>> sortKeys, String filter,
+                                   Map<String, Object> params, String sortField, boolean descending,
+                                   String cursor, int size) {
+        Function<T, LocalDateTime> keyOf = sortKeys.get(sortField);
+        if (keyOf == null) {
+            throw new IllegalArgumentException("Cursor paging is not supported for sort field " + sortField);
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be at least 1");
+        }
+        size = Math.min(size, MAX_PAGE_SIZE);
+        String direction = descending ? "desc" : "asc";
+        Cursor after = cursor == null || cursor.isEmpty() ? null : Cursor.decode(cursor, sortField, direction);
+
+        String key = alias + "." + sortField;
+        String id = alias + ".id";
+        StringBuilder jpql = new StringBuilder(select).append(" where 1 = 1");
+        if (filter != null) {
+            jpql.append(" and (").append(filter).append(')');
+        }
+        if (after != null) {
+            jpql.append(" and ").append(seekCondition(key, id, descending, after.key == null));
+        }
+        jpql.append(" order by ").append(key).append(' ').append(direction)
+                .append(", ").append(id).append(' ').append(direction);
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), type);
+        params.forEach(query::setParameter);
+        if (after != null) {
+            if (after.key != null) {
+                query.setParameter("cursorKey", after.key);
+            }
+            query.setParameter("cursorId", after.id);
+        }
+        // One extra row tells whether another page exists without counting
+        List<T> rows = query.setMaxResults(size + 1).getResultList();
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(size - 1);
+            nextCursor = new Cursor(keyOf.apply(last), idOf.apply(last)).encode(sortField, direction);
+        }
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+
+    // Rows after (cursorKey, cursorId) in the page order, with a null key sorting lowest
+    private static String seekCondition(String key, String id, boolean descending, boolean nullCursorKey) {
+        String op = descending ? "<" : ">";
+        if (nullCursorKey) {
+            String sameKey = "(" + key + " is null and " + id + ' ' + op + " :cursorId)";
+            return descending ? sameKey : "(" + sameKey + " or " + key + " is not null)";
+        }
+        String after = "(" + key + ' ' + op + " :cursorKey or (" + key + " = :cursorKey and "
+                + id + ' ' + op + " :cursorId)";
+        return descending ? after + " or " + key + " is null)" : after + ")";
+    }
+
+    static final class Cursor {
+        final LocalDateTime key;
+        final Long id;
+
+        Cursor(LocalDateTime key, Long id) {
+            this.key = key;
+            this.id = id;
+        }
+
+        String encode(String sortField, String direction) {
+            String raw = String.join("|", CURSOR_VERSION, sortField, direction, key == null ? "" : key.toString(),
+                    id.toString());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor, String sortField, String direction) {
+            String[] parts;
+            try {
+                parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            if (parts.length != 5 || !CURSOR_VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            if (!parts[1].equals(sortField) || !parts[2].equals(direction)) {
+                throw new IllegalArgumentException("Cursor was issued for a different sort order");
+            }
+            try {
+                return new Cursor(parts[3].isEmpty() ? null : LocalDateTime.parse(parts[3]), Long.valueOf(parts[4]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+        }
+    }
+}
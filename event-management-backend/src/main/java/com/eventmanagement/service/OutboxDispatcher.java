@@ -0,0 +1,247 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.OutboxMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the outbox on a background thread: claims due rows in batches under a time-limited lease, runs their
+ * handlers on a bounded pool, deletes delivered rows and reschedules failed ones with exponential backoff.
+ * Rows that keep failing are parked as FAILED. Leases let several instances dispatch without double delivery,
+ * and let another instance pick up the rows of one that died mid-batch.
+ */
+@Service
+public class OutboxDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    @Value("${outbox.dispatch.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.dispatch.threads:4}")
+    private int threads;
+
+    @Value("${outbox.dispatch.batchSize:100}")
+    private int batchSize;
+
+    @Value("${outbox.dispatch.pollMs:1000}")
+    private long pollMs;
+
+    @Value("${outbox.dispatch.leaseSeconds:60}")
+    private long leaseSeconds;
+
+    @Value("${outbox.dispatch.maxAttempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.dispatch.backoffSeconds:5}")
+    private long backoffSeconds;
+
+    @Value("${outbox.dispatch.maxBackoffSeconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    @Autowired
+    private List<OutboxHandler> handlers;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, OutboxHandler> handlersByName = new HashMap<>();
+    private final Semaphore wakeUps = new Semaphore(0);
+    private ExecutorService pool;
+    private Thread loop;
+    private volatile boolean running;
+
+    @PostConstruct
+    void init() {
+        for (OutboxHandler handler : handlers) {
+            handlersByName.put(handler.getName(), handler);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "outbox-handler-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // Started once the context is up, so handlers never run against a half-initialized application
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        loop = new Thread(this::run, "outbox-dispatcher");
+        loop.setDaemon(true);
+        loop.start();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        wakeUp();
+        if (loop != null) {
+            loop.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        pool.shutdown();
+    }
+
+    /**
+     * Asks for a dispatch pass now instead of at the next poll, e.g. right after new messages committed.
+     */
+    public void wakeUp() {
+        wakeUps.release();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                // Keep going while batches come back full; the backlog is drained before waiting again
+                while (running && dispatchBatch() == batchSize) {
+                    wakeUps.drainPermits();
+                }
+                wakeUps.tryAcquire(pollMs, TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Outbox dispatch pass failed", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    int dispatchBatch() {
+        List<OutboxMessage> batch = claim();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<Throwable>> outcomes = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            outcomes.add(CompletableFuture.supplyAsync(() -> deliver(message), pool));
+        }
+
+        List<Long> delivered = new ArrayList<>();
+        List<Object[]> retries = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxMessage message = batch.get(i);
+            Throwable error = outcomes.get(i).join();
+            if (error == null) {
+                delivered.add(message.getId());
+                count(message, "delivered");
+                continue;
+            }
+            int attempts = message.getAttempts() + 1;
+            boolean parked = attempts >= maxAttempts;
+            long delaySeconds = Math.min(maxBackoffSeconds, backoffSeconds << Math.min(attempts - 1, 20));
+            retries.add(new Object[] {attempts, parked ? "FAILED" : "PENDING",
+                    new Timestamp(now + delaySeconds * 1000), truncate(String.valueOf(error)), message.getId()});
+            count(message, parked ? "failed" : "retried");
+            if (parked) {
+                log.error("Outbox message {} ({} for {} {}) failed {} times and was parked",
+                        message.getId(), message.getHandler(), message.getType(), message.getAggregateId(), attempts, error);
+            } else {
+                log.warn("Outbox message {} ({} for {} {}) failed, retrying in {} s: {}",
+                        message.getId(), message.getHandler(), message.getType(), message.getAggregateId(), delaySeconds,
+                        error.toString());
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            namedJdbcTemplate.update("DELETE FROM outbox_messages WHERE id IN (:ids)", Map.of("ids", delivered));
+        }
+        if (!retries.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE outbox_messages SET attempts = ?, status = ?, available_at = ?, " +
+                    "last_error = ?, claimed_by = NULL, claimed_until = NULL WHERE id = ?", retries);
+        }
+        return batch.size();
+    }
+
+    // Two steps instead of SELECT ... FOR UPDATE SKIP LOCKED so the same statements work on MySQL and H2:
+    // the conditional UPDATE only takes rows whose lease is free, and the token tells which ones this pass won
+    private List<OutboxMessage> claim() {
+        long now = System.currentTimeMillis();
+        Timestamp nowTs = new Timestamp(now);
+        List<Long> due = jdbcTemplate.queryForList("SELECT id FROM outbox_messages WHERE status = 'PENDING' " +
+                "AND available_at <= ? AND (claimed_until IS NULL OR claimed_until < ?) ORDER BY id LIMIT ?",
+                Long.class, nowTs, nowTs, batchSize);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        String token = UUID.randomUUID().toString();
+        namedJdbcTemplate.update("UPDATE outbox_messages SET claimed_by = :token, claimed_until = :until " +
+                "WHERE id IN (:ids) AND (claimed_until IS NULL OR claimed_until < :now)",
+                Map.of("token", token, "until", new Timestamp(now + leaseSeconds * 1000), "ids", due, "now", nowTs));
+        return jdbcTemplate.query("SELECT id, message_type, handler, aggregate_id, attempts FROM outbox_messages " +
+                        "WHERE claimed_by = ? ORDER BY id",
+                (rs, rowNum) -> new OutboxMessage(rs.getLong("id"), rs.getString("message_type"),
+                        rs.getString("handler"), rs.getLong("aggregate_id"), rs.getInt("attempts")),
+                token);
+    }
+
+    private Throwable deliver(OutboxMessage message) {
+        OutboxHandler handler = handlersByName.get(message.getHandler());
+        if (handler == null) {
+            return new IllegalStateException("No outbox handler named " + message.getHandler());
+        }
+        try {
+            handler.handle(message);
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private void count(OutboxMessage message, String outcome) {
+        Counter.builder("outbox.deliveries")
+                .description("Outbox deliveries by handler and outcome")
+                .tag("handler", message.getHandler())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String truncate(String text) {
+        return text.length() <= 500 ? text : text.substring(0, 500);
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.OutboxMessage;
+
+/**
+ * A side effect run by the outbox dispatcher after a write has committed. Every handler gets its own
+ * outbox row per message, so one failing handler is retried without repeating the others.
+ * Delivery is at least once: handlers must be idempotent, keyed on the message id.
+ */
+public interface OutboxHandler {
+
+    /**
+     * Stable name stored with each outbox row; renaming a handler orphans its pending rows.
+     */
+    String getName();
+
+    boolean handles(String messageType);
+
+    void handle(OutboxMessage message) throws Exception;
+}
@@ -0,0 +1,72 @@
+package com.eventmanagement.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transactional outbox. Writers append messages inside their own transaction, so a message exists exactly when
+ * the write it describes committed; {@link OutboxDispatcher} delivers them to the handlers afterwards.
+ */
+@Service
+public class OutboxService {
+    public static final String BOOKING_CREATED = "BOOKING_CREATED";
+    public static final String BOOKING_CONFIRMED = "BOOKING_CONFIRMED";
+    public static final String BOOKING_CANCELLED = "BOOKING_CANCELLED";
+    public static final String BOOKING_EXPIRED = "BOOKING_EXPIRED";
+
+    private static final String INSERT_MESSAGE =
+            "INSERT INTO outbox_messages (message_type, handler, aggregate_id, status, attempts, available_at, created_at) " +
+            "VALUES (?, ?, ?, 'PENDING', 0, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private List<OutboxHandler> handlers;
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    public void append(String type, Long aggregateId) {
+        appendAll(type, List.of(aggregateId));
+    }
+
+    /**
+     * Adds one row per aggregate and interested handler with a single batched insert.
+     * Must run inside the transaction that made the change.
+     */
+    public void appendAll(String type, List<Long> aggregateIds) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Outbox messages must be appended inside the writing transaction");
+        }
+        if (aggregateIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> rows = new ArrayList<>();
+        for (OutboxHandler handler : handlers) {
+            if (handler.handles(type)) {
+                for (Long aggregateId : aggregateIds) {
+                    rows.add(new Object[] {type, handler.getName(), aggregateId, now, now});
+                }
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE, rows);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.wakeUp();
+            }
+        });
+    }
+}
@@ -0,0 +1,274 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.BookingSummary;
+import com.eventmanagement.dto.EventSummary;
+import com.eventmanagement.dto.SyncPage;
+import com.eventmanagement.entity.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Listing queries that return {@link EventSummary} and {@link BookingSummary} projections.
+ * Every page costs one select plus, for paged results, one count, whatever the page contents.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ReadModelService {
+    private static final Set<String> EVENT_SORT_FIELDS = Set.of(
+            "id", "title", "startDateTime", "endDateTime", "location", "ticketPrice", "maxAttendees", "status",
+            "createdAt", "updatedAt");
+    private static final Set<String> BOOKING_SORT_FIELDS = Set.of(
+            "id", "bookingDate", "createdAt", "updatedAt", "status", "totalAmount", "numberOfTickets");
+    private static final String WATERMARK_VERSION = "s2";
+    private static final String LEGACY_WATERMARK_VERSION = "s1";
+
+    // Rows whose transaction commits late can carry an updatedAt slightly behind rows already returned,
+    // so a caught-up watermark trails the clock by this much and such rows are sent on the next sync
+    @Value("${sync.overlapSeconds:5}")
+    private long overlapSeconds;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public boolean isEventSortable(String field) {
+        return EVENT_SORT_FIELDS.contains(field);
+    }
+
+    public Page<EventSummary> getAllEvents(Pageable pageable) {
+        return eventPage(null, Map.of(), pageable);
+    }
+
+    public Page<EventSummary> getUpcomingEvents(Pageable pageable) {
+        return eventPage("e.status = :published and e.startDateTime > :now",
+                Map.of("published", Event.EventStatus.PUBLISHED, "now", LocalDateTime.now()), pageable);
+    }
+
+    public Page<EventSummary> searchEvents(String keyword, Pageable pageable) {
+        return eventPage("e.status = :published and (lower(e.title) like :keyword " +
+                        "or lower(e.description) like :keyword or lower(e.location) like :keyword)",
+                Map.of("published", Event.EventStatus.PUBLISHED, "keyword", "%" + keyword.toLowerCase() + "%"),
+                pageable);
+    }
+
+    /**
+     * Loads the given events in one query, returned in the order of {@code ids}.
+     */
+    public List<EventSummary> getEventsByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, EventSummary> byId = new HashMap<>();
+        for (EventSummary summary : entityManager.createQuery(EventSummary.SELECT + " where e.id in :ids", EventSummary.class)
+                .setParameter("ids", ids)
+                .getResultList()) {
+            byId.put(summary.getId(), summary);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    public Page<BookingSummary> getAllBookings(Pageable pageable) {
+        return page(BookingSummary.SELECT, "select count(b) from Booking b", "b", BOOKING_SORT_FIELDS,
+                null, Map.of(), pageable, BookingSummary.class);
+    }
+
+    public List<BookingSummary> getBookingsByUser(Long userId) {
+        return entityManager.createQuery(BookingSummary.SELECT + " where u.id = :userId order by b.bookingDate desc, b.id desc",
+                        BookingSummary.class)
+                .setParameter("userId", userId)
+                .getResultList();
+    }
+
+    public Page<BookingSummary> getBookingsByUser(Long userId, Pageable pageable) {
+        return page(BookingSummary.SELECT, "select count(b) from Booking b", "b", BOOKING_SORT_FIELDS,
+                "b.user.id = :userId", Map.of("userId", userId), pageable, BookingSummary.class);
+    }
+
+    /**
+     * Bookings of the user changed after {@code since}. Bookings are never deleted, only cancelled, and a
+     * cancellation bumps updatedAt, so it arrives as a change.
+     */
+    public SyncPage<BookingSummary> syncBookingsByUser(Long userId, String since, int size) {
+        return sync(BookingSummary.SELECT + " where u.id = :ownerId", "b", userId, since, size,
+                BookingSummary.class, BookingSummary::getUpdatedAt, BookingSummary::getId, null);
+    }
+
+    public List<BookingSummary> getBookingsByEvent(Long eventId) {
+        return entityManager.createQuery(BookingSummary.SELECT + " where e.id = :eventId order by b.bookingDate desc, b.id desc",
+                        BookingSummary.class)
+                .setParameter("eventId", eventId)
+                .getResultList();
+    }
+
+    public Page<EventSummary> getEventsByOrganizer(Long organizerId, Pageable pageable) {
+        return eventPage("e.organizer.id = :organizerId", Map.of("organizerId", organizerId), pageable);
+    }
+
+    /**
+     * Events of the organizer changed after {@code since}. Events can be deleted outright, so when the
+     * organizer's event count shows a deletion since the last sync, or on a full resync, the last page also
+     * carries the ids of all remaining events and clients drop whatever is not among them.
+     */
+    public SyncPage<EventSummary> syncEventsByOrganizer(Long organizerId, String since, int size) {
+        return sync(EventSummary.SELECT + " where o.id = :ownerId", "e", organizerId, since, size,
+                EventSummary.class, EventSummary::getUpdatedAt, EventSummary::getId,
+                "from Event e where e.organizer.id = :ownerId");
+    }
+
+    private <T> SyncPage<T> sync(String select, String alias, Long ownerId, String since, int size, Class<T> type,
+                                 Function<T, LocalDateTime> updatedAt, Function<T, Long> id, String owned) {
+        Watermark after = since == null || since.isEmpty() ? null : Watermark.decode(since);
+        // The database clock, shared by every node whatever their own clocks say
+        LocalDateTime horizon = entityManager.createQuery("select local datetime", LocalDateTime.class)
+                .getSingleResult()
+                .minusSeconds(overlapSeconds);
+
+        StringBuilder jpql = new StringBuilder(select);
+        if (after != null) {
+            jpql.append(" and (").append(alias).append(".updatedAt > :since or (").append(alias)
+                    .append(".updatedAt = :since and ").append(alias).append(".id > :sinceId))");
+        }
+        jpql.append(" order by ").append(alias).append(".updatedAt asc, ").append(alias).append(".id asc");
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), type).setParameter("ownerId", ownerId);
+        if (after != null) {
+            query.setParameter("since", after.updatedAt).setParameter("sinceId", after.id);
+        }
+        List<T> rows = query.setMaxResults(size + 1).getResultList();
+
+        if (rows.size() > size) {
+            List<T> changes = new ArrayList<>(rows.subList(0, size));
+            T last = changes.get(size - 1);
+            Watermark next = after != null
+                    ? new Watermark(updatedAt.apply(last), id.apply(last), after.count, after.countedSince)
+                    : new Watermark(updatedAt.apply(last), id.apply(last), null, null);
+            return new SyncPage<>(changes, null, next.encode(), true);
+        }
+        Watermark next = new Watermark(horizon, 0L, null, null);
+        if (after != null && after.compareTo(next) > 0) {
+            next = after;
+        }
+        if (owned == null) {
+            return new SyncPage<>(rows, null, next.encode(), false);
+        }
+
+        // Anything deleted since the last sync leaves fewer rows than were counted then plus those created since;
+        // creations are counted from that sync's horizon, so the test errs towards sending the ids
+        boolean counted = after != null && after.count != null;
+        Object[] counts = entityManager.createQuery("select count(" + alias + "), sum(case when " + alias +
+                        ".createdAt > :countedSince then 1 else 0 end) " + owned, Object[].class)
+                .setParameter("ownerId", ownerId)
+                .setParameter("countedSince", counted ? after.countedSince : horizon)
+                .getSingleResult();
+        long count = ((Number) counts[0]).longValue();
+        long created = counts[1] == null ? 0 : ((Number) counts[1]).longValue();
+        List<Long> ids = null;
+        if (!counted || after.count + created > count) {
+            ids = entityManager.createQuery("select " + alias + ".id " + owned + " order by " + alias + ".id", Long.class)
+                    .setParameter("ownerId", ownerId)
+                    .getResultList();
+        }
+        next = new Watermark(next.updatedAt, next.id, count, horizon);
+        return new SyncPage<>(rows, ids, next.encode(), false);
+    }
+
+    private Page<EventSummary> eventPage(String filter, Map<String, Object> params, Pageable pageable) {
+        return page(EventSummary.SELECT, "select count(e) from Event e", "e", EVENT_SORT_FIELDS,
+                filter, params, pageable, EventSummary.class);
+    }
+
+    private <T> Page<T> page(String select, String count, String alias, Set<String> sortable, String filter,
+                             Map<String, Object> params, Pageable pageable, Class<T> type) {
+        String where = filter != null ? " where " + filter : "";
+        TypedQuery<T> query = entityManager.createQuery(select + where + orderBy(alias, sortable, pageable.getSort()), type);
+        params.forEach(query::setParameter);
+        List<T> content = query.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // The count is skipped when the page itself shows the total
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        TypedQuery<Long> countQuery = entityManager.createQuery(count + where, Long.class);
+        params.forEach(countQuery::setParameter);
+        return new PageImpl<>(content, pageable, countQuery.getSingleResult());
+    }
+
+    private static String orderBy(String alias, Set<String> sortable, Sort sort) {
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            if (!sortable.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Unsupported sort field " + order.getProperty());
+            }
+            orderBy.append(orderBy.length() == 0 ? " order by " : ", ")
+                    .append(alias).append('.').append(order.getProperty())
+                    .append(order.isDescending() ? " desc" : " asc");
+        }
+        // A stable tie-breaker keeps rows from repeating across pages
+        return orderBy.append(orderBy.length() == 0 ? " order by " : ", ").append(alias).append(".id asc").toString();
+    }
+
+    static final class Watermark implements Comparable<Watermark> {
+        final LocalDateTime updatedAt;
+        final Long id;
+        // Rows the client held after its last complete sync, and that sync's horizon; null until one completes
+        final Long count;
+        final LocalDateTime countedSince;
+
+        Watermark(LocalDateTime updatedAt, Long id, Long count, LocalDateTime countedSince) {
+            this.updatedAt = updatedAt;
+            this.id = id;
+            this.count = count;
+            this.countedSince = countedSince;
+        }
+
+        @Override
+        public int compareTo(Watermark other) {
+            int byTime = updatedAt.compareTo(other.updatedAt);
+            return byTime != 0 ? byTime : id.compareTo(other.id);
+        }
+
+        String encode() {
+            String raw = String.join("|", WATERMARK_VERSION, updatedAt.toString(), id.toString(),
+                    count == null ? "" : count.toString(), countedSince == null ? "" : countedSince.toString());
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Watermark decode(String watermark) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8).split("\\|", -1);
+                if (parts.length == 3 && LEGACY_WATERMARK_VERSION.equals(parts[0])) {
+                    // Issued before counts were tracked; the next complete sync sends the ids once
+                    return new Watermark(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]), null, null);
+                }
+                if (parts.length != 5 || !WATERMARK_VERSION.equals(parts[0])) {
+                    throw new IllegalArgumentException("Malformed watermark");
+                }
+                return new Watermark(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]),
+                        parts[3].isEmpty() ? null : Long.valueOf(parts[3]),
+                        parts[4].isEmpty() ? null : LocalDateTime.parse(parts[4]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Malformed watermark");
+            }
+        }
+    }
+}
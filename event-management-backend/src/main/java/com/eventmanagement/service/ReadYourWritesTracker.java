@@ -0,0 +1,53 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.security.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users wrote recently, so their read-only transactions stay on the primary until a replica
+ * has had time to catch up with their own changes. The state is local to this instance.
+ */
+@Component
+public class ReadYourWritesTracker {
+    @Value("${datasource.replica.stickinessMs:10000}")
+    private long stickinessMs;
+
+    private final ConcurrentHashMap<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public void markWrite(Long userId) {
+        if (userId != null) {
+            stickyUntil.put(userId, System.currentTimeMillis() + stickinessMs);
+        }
+    }
+
+    public boolean isSticky(Long userId) {
+        Long until = userId == null ? null : stickyUntil.get(userId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * @return whether the user of the current request wrote within the stickiness window
+     */
+    public boolean isCurrentUserSticky() {
+        if (stickyUntil.isEmpty()) {
+            return false;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return isSticky(userDetails.getId());
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.stickinessCleanupMs:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+}
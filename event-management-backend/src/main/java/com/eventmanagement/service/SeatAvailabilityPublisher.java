@@ -0,0 +1,175 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.SeatAvailability;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans remaining-seat updates out to Server-Sent Events subscribers. Seat changes only record the latest count
+ * per event; one publisher thread broadcasts whatever changed at most maxUpdatesPerSecond times per second,
+ * serializing each update once for all of the event's subscribers. Connections are async servlet responses,
+ * so an idle subscriber holds no thread.
+ */
+@Service
+public class SeatAvailabilityPublisher {
+    private static final Logger log = LoggerFactory.getLogger(SeatAvailabilityPublisher.class);
+    private static final String EVENT_NAME = "availability";
+
+    @Value("${events.availability.maxUpdatesPerSecond:2}")
+    private int maxUpdatesPerSecond;
+
+    @Value("${events.availability.heartbeatSeconds:15}")
+    private long heartbeatSeconds;
+
+    @Value("${events.availability.streamTimeoutMs:1800000}")
+    private long streamTimeoutMs;
+
+    @Value("${events.availability.maxSubscribers:10000}")
+    private int maxSubscribers;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ConcurrentHashMap<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Integer> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private ScheduledExecutorService publisher;
+
+    @PostConstruct
+    void init() {
+        publisher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "seat-availability-publisher");
+            t.setDaemon(true);
+            return t;
+        });
+        long periodMs = Math.max(1, 1000 / Math.max(1, maxUpdatesPerSecond));
+        publisher.scheduleWithFixedDelay(() -> guarded(this::flush), periodMs, periodMs, TimeUnit.MILLISECONDS);
+        publisher.scheduleWithFixedDelay(() -> guarded(this::heartbeat), heartbeatSeconds, heartbeatSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    // An exception escaping a periodic task would silently cancel all its later runs
+    private static void guarded(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("Seat availability broadcast failed", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        publisher.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    /**
+     * Opens a stream for the event that starts with its current availability.
+     *
+     * @return the emitter, or null if this instance already serves maxSubscribers streams
+     */
+    public SseEmitter subscribe(Long eventId, Integer remainingSeats) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        subscribers.compute(eventId, (id, emitters) -> {
+            Set<SseEmitter> set = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            set.add(emitter);
+            return set;
+        });
+        // Clients reconnect on their own once a stream times out or fails
+        emitter.onCompletion(() -> unsubscribe(eventId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> unsubscribe(eventId, emitter));
+        send(eventId, emitter, frame(eventId, remainingSeats));
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long eventId) {
+        return subscribers.containsKey(eventId);
+    }
+
+    /**
+     * Records the event's new remaining-seat count; only the latest value per flush interval is sent.
+     */
+    public void publish(Long eventId, int remainingSeats) {
+        if (subscribers.containsKey(eventId)) {
+            pending.put(eventId, remainingSeats);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    void flush() {
+        for (Long eventId : pending.keySet()) {
+            Integer remaining = pending.remove(eventId);
+            Set<SseEmitter> emitters = subscribers.get(eventId);
+            if (remaining == null || emitters == null) {
+                continue;
+            }
+            Set<ResponseBodyEmitter.DataWithMediaType> frame = frame(eventId, remaining);
+            for (SseEmitter emitter : emitters) {
+                send(eventId, emitter, frame);
+            }
+        }
+    }
+
+    // Comment lines keep proxies from closing quiet streams and reveal clients that went away
+    void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        subscribers.forEach((eventId, emitters) -> emitters.forEach(emitter -> send(eventId, emitter, ping)));
+    }
+
+    // Built once and written as-is to every subscriber; a builder cannot be reused, build() consumes it
+    private Set<ResponseBodyEmitter.DataWithMediaType> frame(Long eventId, Integer remainingSeats) {
+        try {
+            String json = objectMapper.writeValueAsString(new SeatAvailability(eventId, remainingSeats));
+            return SseEmitter.event().name(EVENT_NAME).data(json, MediaType.APPLICATION_JSON).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize seat availability", e);
+        }
+    }
+
+    private void send(Long eventId, SseEmitter emitter, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        try {
+            emitter.send(frame);
+        } catch (IOException | IllegalStateException e) {
+            // The client is gone or the emitter already completed
+            unsubscribe(eventId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(Long eventId, SseEmitter emitter) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(eventId, (id, emitters) -> {
+            removed[0] = emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        if (removed[0]) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+}
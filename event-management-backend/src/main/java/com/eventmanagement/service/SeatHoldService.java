@@ -0,0 +1,189 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.Booking;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Time-limited holds on seats taken by PENDING bookings. A hold ends when the booking is confirmed or cancelled;
+ * holds that reach their TTL are cancelled in bulk and their seats returned to {@link SeatInventoryService}.
+ */
+@Service
+public class SeatHoldService {
+    private static final Logger log = LoggerFactory.getLogger(SeatHoldService.class);
+
+    private static final int EXPIRY_CHUNK_SIZE = 500;
+
+    public enum HoldState { RELEASED, EXPIRED, UNTRACKED }
+
+    @Value("${booking.hold.ttlSeconds:600}")
+    private long holdTtlSeconds;
+
+    @Value("${booking.hold.tickMs:1000}")
+    private long tickMs;
+
+    @Value("${booking.hold.wheelSize:512}")
+    private int wheelSize;
+
+    @Autowired
+    private SeatInventoryService seatInventory;
+
+    @Autowired
+    private OutboxService outbox;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private HashedTimingWheel<Hold> wheel;
+    private TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Long, HashedTimingWheel.Timeout<Hold>> holds = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        wheel = new HashedTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Starts the hold for a freshly created PENDING booking and returns its expiry time in epoch millis.
+     */
+    public long place(Booking booking) {
+        return place(booking.getId(), booking.getEvent().getId(), booking.getNumberOfTickets());
+    }
+
+    public long place(Long bookingId, Long eventId, int seats) {
+        long expiresAt = System.currentTimeMillis() + holdTtlSeconds * 1000;
+        holds.put(bookingId, wheel.schedule(new Hold(bookingId, eventId, seats), expiresAt));
+        return expiresAt;
+    }
+
+    /**
+     * Ends the hold for a booking that is being confirmed or cancelled.
+     * Returns EXPIRED if the hold already lapsed, in which case the booking has been or is being cancelled.
+     */
+    public HoldState release(Long bookingId) {
+        HashedTimingWheel.Timeout<Hold> timeout = holds.remove(bookingId);
+        if (timeout == null) {
+            return HoldState.UNTRACKED;
+        }
+        if (timeout.cancel()) {
+            return HoldState.RELEASED;
+        }
+        return timeout.isExpired() ? HoldState.EXPIRED : HoldState.RELEASED;
+    }
+
+    /**
+     * Whether the booking's hold has lapsed, leaving the hold in place.
+     */
+    public boolean isExpired(Long bookingId) {
+        HashedTimingWheel.Timeout<Hold> timeout = holds.get(bookingId);
+        return timeout != null && timeout.isExpired();
+    }
+
+    public int getActiveHolds() {
+        return holds.size();
+    }
+
+    // PENDING bookings left from a previous run get a fresh hold so their seats are not stuck forever
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverPendingHolds() {
+        List<Object[]> pending = entityManager.createQuery(
+                        "select b.id, b.event.id, b.numberOfTickets from Booking b where b.status = :pending", Object[].class)
+                .setParameter("pending", Booking.BookingStatus.PENDING)
+                .getResultList();
+        long expiresAt = System.currentTimeMillis() + holdTtlSeconds * 1000;
+        for (Object[] row : pending) {
+            Hold hold = new Hold((Long) row[0], (Long) row[1], ((Number) row[2]).intValue());
+            holds.put(hold.bookingId, wheel.schedule(hold, expiresAt));
+        }
+        if (!pending.isEmpty()) {
+            log.info("Recovered {} pending seat holds", pending.size());
+        }
+    }
+
+    @Scheduled(fixedRateString = "${booking.hold.tickMs:1000}")
+    public void expireHolds() {
+        List<Hold> expired = wheel.advance(System.currentTimeMillis());
+        if (expired.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < expired.size(); from += EXPIRY_CHUNK_SIZE) {
+            List<Hold> chunk = expired.subList(from, Math.min(from + EXPIRY_CHUNK_SIZE, expired.size()));
+            List<Long> ids = chunk.stream().map(h -> h.bookingId).toList();
+            List<Object[]> cancelled = transactionTemplate.execute(status -> cancelPending(ids));
+            for (Hold hold : chunk) {
+                holds.remove(hold.bookingId);
+            }
+            if (cancelled == null) {
+                continue;
+            }
+            Map<Long, Integer> freedPerEvent = new HashMap<>();
+            for (Object[] row : cancelled) {
+                freedPerEvent.merge((Long) row[1], ((Number) row[2]).intValue(), Integer::sum);
+            }
+            freedPerEvent.forEach((eventId, seats) -> seatInventory.release(eventId, seats, true));
+        }
+        log.info("Expired {} seat holds", expired.size());
+    }
+
+    // Only bookings still PENDING are cancelled. The rows are locked first, as in BulkBookingService, so a confirm
+    // committing in between cannot make the update skip a row whose seats are then freed anyway
+    private List<Object[]> cancelPending(List<Long> ids) {
+        List<Object[]> pending = entityManager.createQuery(
+                        "select b.id, b.event.id, b.numberOfTickets from Booking b " +
+                        "where b.id in :ids and b.status = :pending", Object[].class)
+                .setParameter("ids", ids)
+                .setParameter("pending", Booking.BookingStatus.PENDING)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (pending.isEmpty()) {
+            return pending;
+        }
+        List<Long> pendingIds = new ArrayList<>(pending.size());
+        for (Object[] row : pending) {
+            pendingIds.add((Long) row[0]);
+        }
+        entityManager.createQuery(
+                        "update Booking b set b.status = :cancelled, b.updatedAt = CURRENT_TIMESTAMP " +
+                        "where b.id in :ids and b.status = :pending")
+                .setParameter("cancelled", Booking.BookingStatus.CANCELLED)
+                .setParameter("ids", pendingIds)
+                .setParameter("pending", Booking.BookingStatus.PENDING)
+                .executeUpdate();
+        outbox.appendAll(OutboxService.BOOKING_EXPIRED, pendingIds);
+        return pending;
+    }
+
+    static final class Hold {
+        final Long bookingId;
+        final Long eventId;
+        final int seats;
+
+        Hold(Long bookingId, Long eventId, int seats) {
+            this.bookingId = bookingId;
+            this.eventId = eventId;
+            this.seats = seats;
+        }
+    }
+}
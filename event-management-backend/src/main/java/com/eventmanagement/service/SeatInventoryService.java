@@ -0,0 +1,296 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.Booking;
+import com.eventmanagement.entity.Event;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remaining-seat counters per event, held in memory so that booking never serializes on the event row.
+ * Each counter is striped across several CAS cells; a reservation either takes all requested seats or none.
+ * Counters are seeded lazily from the database and periodically reconciled with it. A counter lives as long as
+ * its event, so reservations in flight always commit or release against the counter they were taken from.
+ */
+@Service
+public class SeatInventoryService {
+    private static final Logger log = LoggerFactory.getLogger(SeatInventoryService.class);
+
+    private static final int STRIPES = Math.max(1, Math.min(16, Runtime.getRuntime().availableProcessors()));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EventResponseCache eventCache;
+
+    @Autowired
+    private SeatAvailabilityPublisher availability;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Long, EventSeats> inventory = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        // Not read-only on purpose: counts from a lagging replica would be applied as drift
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Atomically takes {@code seats} from the event's remaining capacity.
+     * Callers must follow up with {@link #commit} once the booking is stored, or {@link #release} if it is not.
+     */
+    public boolean tryReserve(Event event, int seats) {
+        if (seats <= 0) {
+            return false;
+        }
+        EventSeats eventSeats = seatsFor(event);
+        if (eventSeats == null) {
+            return true;
+        }
+        // Counted as in flight before the seats are taken, so reconcile never sees a half-made reservation
+        eventSeats.inFlight.addAndGet(seats);
+        eventSeats.changes.incrementAndGet();
+        if (!eventSeats.tryTake(seats)) {
+            eventSeats.inFlight.addAndGet(-seats);
+            return false;
+        }
+        announce(event.getId(), eventSeats);
+        return true;
+    }
+
+    public void commit(Event event, int seats) {
+        eventCache.invalidate(event.getId());
+        EventSeats eventSeats = inventory.get(event.getId());
+        if (eventSeats != null) {
+            eventSeats.changes.incrementAndGet();
+            eventSeats.inFlight.addAndGet(-seats);
+        }
+    }
+
+    /**
+     * Returns seats to the event, either from a reservation whose booking failed or from a cancelled booking.
+     */
+    public void release(Event event, int seats, boolean committed) {
+        release(event.getId(), seats, committed);
+    }
+
+    public void release(Long eventId, int seats, boolean committed) {
+        if (committed) {
+            // A stored booking was cancelled, so the event's cached response is out of date
+            eventCache.invalidate(eventId);
+        }
+        EventSeats eventSeats = inventory.get(eventId);
+        if (eventSeats == null || seats <= 0) {
+            return;
+        }
+        eventSeats.changes.incrementAndGet();
+        eventSeats.put(seats);
+        if (!committed) {
+            eventSeats.inFlight.addAndGet(-seats);
+        }
+        announce(eventId, eventSeats);
+    }
+
+    public Integer getRemainingSeats(Event event) {
+        EventSeats eventSeats = seatsFor(event);
+        return eventSeats == null ? null : eventSeats.remaining();
+    }
+
+    /**
+     * Applies an edited capacity to the event's counter in place, adding or withdrawing the difference.
+     * An event that no longer has a capacity loses its counter.
+     */
+    public void resize(Event event) {
+        EventSeats eventSeats = inventory.get(event.getId());
+        if (eventSeats == null) {
+            return;
+        }
+        if (event.getMaxAttendees() == null) {
+            inventory.remove(event.getId(), eventSeats);
+            return;
+        }
+        eventSeats.resize(event.getMaxAttendees());
+    }
+
+    /**
+     * Drops the counter of a deleted event.
+     */
+    public void evict(Long eventId) {
+        inventory.remove(eventId);
+    }
+
+    // Write-behind reconciliation: corrects drift from bookings changed outside this node
+    @Scheduled(fixedDelayString = "${booking.inventory.reconcileMs:30000}")
+    public void reconcile() {
+        inventory.forEach(this::reconcile);
+    }
+
+    // A booking stored but not yet committed here, or cancelled but not yet released, is briefly counted by both
+    // the database and the counter. Drift is therefore only applied while nothing is in flight, and only once the
+    // same drift is seen on two passes with no seat activity on the event in between
+    void reconcile(Long eventId, EventSeats eventSeats) {
+        long changes = eventSeats.changes.get();
+        if (eventSeats.inFlight.get() != 0) {
+            eventSeats.pendingDrift = 0;
+            return;
+        }
+        // One short transaction per event, so each count sees the latest committed bookings
+        Integer sold = transactionTemplate.execute(status -> countSoldSeats(eventId));
+        if (sold == null || eventSeats.inFlight.get() != 0 || eventSeats.changes.get() != changes) {
+            eventSeats.pendingDrift = 0;
+            return;
+        }
+        int drift = Math.max(0, eventSeats.capacity - sold) - eventSeats.remaining();
+        if (drift == 0 || drift != eventSeats.pendingDrift || changes != eventSeats.pendingChanges) {
+            eventSeats.pendingDrift = drift;
+            eventSeats.pendingChanges = changes;
+            return;
+        }
+        eventSeats.pendingDrift = 0;
+        if (drift > 0) {
+            eventSeats.put(drift);
+        } else if (!eventSeats.tryTakeAvailable(-drift)) {
+            log.debug("Inventory for event {} busy, deferring reconcile of {} seats", eventId, drift);
+            return;
+        }
+        log.info("Reconciled seat inventory for event {} by {}", eventId, drift);
+        announce(eventId, eventSeats);
+    }
+
+    // The database is read outside the map so no bin lock is held across the query; a concurrent seed of the
+    // same event keeps whichever counter was stored first
+    private EventSeats seatsFor(Event event) {
+        if (event.getMaxAttendees() == null) {
+            return null;
+        }
+        EventSeats eventSeats = inventory.get(event.getId());
+        if (eventSeats != null) {
+            return eventSeats;
+        }
+        int capacity = event.getMaxAttendees();
+        EventSeats seeded = new EventSeats(capacity, Math.max(0, capacity - countSoldSeats(event.getId())));
+        eventSeats = inventory.putIfAbsent(event.getId(), seeded);
+        return eventSeats != null ? eventSeats : seeded;
+    }
+
+    // Summing the stripes is only worth it while someone is watching the event
+    private void announce(Long eventId, EventSeats eventSeats) {
+        if (availability.hasSubscribers(eventId)) {
+            availability.publish(eventId, eventSeats.remaining());
+        }
+    }
+
+    private int countSoldSeats(Long eventId) {
+        Number sold = entityManager.createQuery(
+                        "select coalesce(sum(b.numberOfTickets), 0) from Booking b " +
+                        "where b.event.id = :eventId and b.status <> :cancelled", Number.class)
+                .setParameter("eventId", eventId)
+                .setParameter("cancelled", Booking.BookingStatus.CANCELLED)
+                .getSingleResult();
+        return sold.intValue();
+    }
+
+    static final class EventSeats {
+        volatile int capacity;
+        final AtomicIntegerArray stripes = new AtomicIntegerArray(STRIPES);
+        final AtomicInteger inFlight = new AtomicInteger();
+        // Bumped by every reservation, commit, release and resize; lets reconcile tell a quiet counter
+        final AtomicLong changes = new AtomicLong();
+        // Only touched by the reconcile thread
+        int pendingDrift;
+        long pendingChanges;
+
+        EventSeats(int capacity, int remaining) {
+            this.capacity = capacity;
+            for (int i = 0; i < STRIPES; i++) {
+                stripes.set(i, remaining / STRIPES + (i < remaining % STRIPES ? 1 : 0));
+            }
+        }
+
+        boolean tryTake(int seats) {
+            int home = ThreadLocalRandom.current().nextInt(STRIPES);
+            for (int i = 0; i < STRIPES; i++) {
+                if (casTake(stripes, (home + i) % STRIPES, seats)) {
+                    return true;
+                }
+            }
+            // No single stripe can cover the request: gather across stripes under the event's lock
+            return tryTakeAvailable(seats);
+        }
+
+        synchronized void resize(int newCapacity) {
+            int delta = newCapacity - capacity;
+            if (delta == 0) {
+                return;
+            }
+            capacity = newCapacity;
+            changes.incrementAndGet();
+            if (delta > 0) {
+                put(delta);
+            } else {
+                // Seats already sold past a lowered capacity stay sold; only unsold ones are withdrawn
+                int gathered = 0;
+                for (int i = 0; i < STRIPES && gathered < -delta; i++) {
+                    gathered += stripes.getAndSet(i, 0);
+                }
+                put(gathered + delta);
+            }
+        }
+
+        synchronized boolean tryTakeAvailable(int seats) {
+            int gathered = 0;
+            for (int i = 0; i < STRIPES && gathered < seats; i++) {
+                gathered += stripes.getAndSet(i, 0);
+            }
+            if (gathered >= seats) {
+                put(gathered - seats);
+                return true;
+            }
+            put(gathered);
+            return false;
+        }
+
+        void put(int seats) {
+            if (seats > 0) {
+                stripes.addAndGet(ThreadLocalRandom.current().nextInt(STRIPES), seats);
+            }
+        }
+
+        int remaining() {
+            int total = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                total += stripes.get(i);
+            }
+            return total;
+        }
+
+        private static boolean casTake(AtomicIntegerArray stripes, int index, int seats) {
+            while (true) {
+                int current = stripes.get(index);
+                if (current < seats) {
+                    return false;
+                }
+                if (stripes.compareAndSet(index, current, current - seats)) {
+                    return true;
+                }
+            }
+        }
+    }
+}
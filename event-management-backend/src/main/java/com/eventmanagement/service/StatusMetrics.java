@@ -0,0 +1,78 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.Booking;
+import com.eventmanagement.entity.Event;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gauges with the number of bookings and events in each status, from one grouped count query per table
+ * refreshed on a schedule, so scraping never touches the database.
+ */
+@Service
+public class StatusMetrics {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<Booking.BookingStatus, AtomicLong> bookings = new EnumMap<>(Booking.BookingStatus.class);
+    private final Map<Event.EventStatus, AtomicLong> events = new EnumMap<>(Event.EventStatus.class);
+
+    @PostConstruct
+    void init() {
+        for (Booking.BookingStatus status : Booking.BookingStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            bookings.put(status, count);
+            Gauge.builder("bookings.by.status", count, AtomicLong::get)
+                    .tag("status", status.name())
+                    .description("Bookings currently in this status")
+                    .register(meterRegistry);
+        }
+        for (Event.EventStatus status : Event.EventStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            events.put(status, count);
+            Gauge.builder("events.by.status", count, AtomicLong::get)
+                    .tag("status", status.name())
+                    .description("Events currently in this status")
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${metrics.status.refreshMs:60000}", initialDelayString = "${metrics.status.refreshMs:60000}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        Map<Booking.BookingStatus, Long> bookingCounts = new EnumMap<>(Booking.BookingStatus.class);
+        for (Object[] row : entityManager.createQuery(
+                "select b.status, count(b) from Booking b group by b.status", Object[].class).getResultList()) {
+            if (row[0] != null) {
+                bookingCounts.put((Booking.BookingStatus) row[0], (Long) row[1]);
+            }
+        }
+        Map<Event.EventStatus, Long> eventCounts = new EnumMap<>(Event.EventStatus.class);
+        for (Object[] row : entityManager.createQuery(
+                "select e.status, count(e) from Event e group by e.status", Object[].class).getResultList()) {
+            if (row[0] != null) {
+                eventCounts.put((Event.EventStatus) row[0], (Long) row[1]);
+            }
+        }
+        bookings.forEach((status, count) -> count.set(bookingCounts.getOrDefault(status, 0L)));
+        events.forEach((status, count) -> count.set(eventCounts.getOrDefault(status, 0L)));
+    }
+}
@@ -0,0 +1,292 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.EventSummary;
+import com.eventmanagement.entity.Event;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Published upcoming events ordered by start time, served from memory for the public home page.
+ * Entries are {@link EventSummary} projections; they are refreshed from the event write paths, dropped once
+ * their start time passes and fully rebuilt from the database periodically.
+ */
+@Service
+public class UpcomingEventsIndex {
+    private static final Logger log = LoggerFactory.getLogger(UpcomingEventsIndex.class);
+
+    private static final String SELECT_UPCOMING =
+            EventSummary.SELECT + " where e.status = :published and e.startDateTime > :now";
+
+    @Value("${events.upcoming.index.enabled:true}")
+    private boolean enabled;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate transaction;
+
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean ready;
+    private volatile long lastRebuildMillis;
+    private volatile long lastUpdateMillis;
+
+    // Ids touched while a rebuild is loading, replayed onto its snapshot; null when no rebuild runs
+    private final Object changesLock = new Object();
+    private Set<Long> changesDuringRebuild;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        transaction = new TransactionTemplate(transactionManager);
+        Gauge.builder("events.upcoming.index.size", this, index -> index.snapshot.size.get())
+                .description("Upcoming events held in the in-memory index")
+                .register(meterRegistry);
+        TimeGauge.builder("events.upcoming.index.since.rebuild", this, TimeUnit.MILLISECONDS,
+                        index -> sinceMillis(index.lastRebuildMillis))
+                .description("Time since the upcoming events index was last rebuilt from the database")
+                .register(meterRegistry);
+        TimeGauge.builder("events.upcoming.index.since.update", this, TimeUnit.MILLISECONDS,
+                        index -> sinceMillis(index.lastUpdateMillis))
+                .description("Time since the upcoming events index last changed")
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${events.upcoming.index.rebuildMs:600000}", initialDelayString = "${events.upcoming.index.rebuildMs:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        synchronized (changesLock) {
+            changesDuringRebuild = new HashSet<>();
+        }
+        Snapshot fresh = new Snapshot();
+        Set<Long> changed;
+        try {
+            List<EventSummary> events = readOnlyTransaction.execute(status ->
+                    entityManager.createQuery(SELECT_UPCOMING, EventSummary.class)
+                            .setParameter("published", Event.EventStatus.PUBLISHED)
+                            .setParameter("now", LocalDateTime.now())
+                            .getResultList());
+            for (EventSummary event : events) {
+                fresh.put(event);
+            }
+            // Readers switch to the new structure in one step and never see a half-built index
+            snapshot = fresh;
+        } finally {
+            synchronized (changesLock) {
+                changed = changesDuringRebuild;
+                changesDuringRebuild = null;
+            }
+        }
+        // Writes made while the query ran may be missing from its result; from here on they land on the new
+        // snapshot directly
+        for (Long eventId : changed) {
+            transaction.executeWithoutResult(status -> reload(fresh, eventId));
+        }
+        lastRebuildMillis = System.currentTimeMillis();
+        lastUpdateMillis = lastRebuildMillis;
+        ready = true;
+        log.info("Rebuilt upcoming events index with {} events ({} replayed) in {} ms", fresh.size.get(),
+                changed.size(), lastRebuildMillis - start);
+    }
+
+    /**
+     * Reloads one event after a write and adds, moves or drops its entry.
+     * Not read-only, so the row is read from the primary that was just written rather than a replica.
+     */
+    @Transactional
+    public void refresh(Long eventId) {
+        if (!enabled) {
+            return;
+        }
+        recordChange(eventId);
+        reload(snapshot, eventId);
+        lastUpdateMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Reloads the indexed events of a category after it was renamed or deleted.
+     */
+    @Transactional
+    public void refreshCategory(Long categoryId) {
+        if (!enabled) {
+            return;
+        }
+        Snapshot current = snapshot;
+        List<Long> ids = current.byStart.values().stream()
+                .filter(event -> event.getCategory() != null && categoryId.equals(event.getCategory().getId()))
+                .map(EventSummary::getId)
+                .toList();
+        for (Long eventId : ids) {
+            recordChange(eventId);
+            reload(current, eventId);
+        }
+        lastUpdateMillis = System.currentTimeMillis();
+    }
+
+    public void remove(Long eventId) {
+        recordChange(eventId);
+        snapshot.remove(eventId);
+        lastUpdateMillis = System.currentTimeMillis();
+    }
+
+    private void recordChange(Long eventId) {
+        synchronized (changesLock) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(eventId);
+            }
+        }
+    }
+
+    private void reload(Snapshot target, Long eventId) {
+        List<EventSummary> events = entityManager.createQuery(SELECT_UPCOMING + " and e.id = :id", EventSummary.class)
+                .setParameter("published", Event.EventStatus.PUBLISHED)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("id", eventId)
+                .getResultList();
+        target.remove(eventId);
+        if (!events.isEmpty()) {
+            target.put(events.get(0));
+        }
+    }
+
+    private static double sinceMillis(long millis) {
+        return millis == 0 ? Double.NaN : System.currentTimeMillis() - millis;
+    }
+
+    @Scheduled(fixedDelayString = "${events.upcoming.index.evictMs:5000}")
+    public void evictStarted() {
+        snapshot.evictBefore(LocalDateTime.now());
+    }
+
+    public Page<EventSummary> getPage(Pageable pageable) {
+        Snapshot current = snapshot;
+        current.evictBefore(LocalDateTime.now());
+        List<EventSummary> content = new ArrayList<>(pageable.getPageSize());
+        Iterator<EventSummary> it = current.byStart.values().iterator();
+        for (long skipped = 0; skipped < pageable.getOffset() && it.hasNext(); skipped++) {
+            it.next();
+        }
+        while (content.size() < pageable.getPageSize() && it.hasNext()) {
+            content.add(it.next());
+        }
+        return new PageImpl<>(content, pageable, current.size.get());
+    }
+
+    public Map<String, Object> getStats() {
+        long now = System.currentTimeMillis();
+        Snapshot current = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("ready", isReady());
+        stats.put("size", current.size.get());
+        stats.put("nextStart", current.byStart.isEmpty() ? null : current.byStart.firstKey().start);
+        stats.put("msSinceRebuild", lastRebuildMillis == 0 ? null : now - lastRebuildMillis);
+        stats.put("msSinceUpdate", lastUpdateMillis == 0 ? null : now - lastUpdateMillis);
+        return stats;
+    }
+
+    static final class Snapshot {
+        final ConcurrentSkipListMap<Key, EventSummary> byStart = new ConcurrentSkipListMap<>();
+        final ConcurrentHashMap<Long, Key> keys = new ConcurrentHashMap<>();
+        final AtomicInteger size = new AtomicInteger();
+
+        synchronized void put(EventSummary event) {
+            Key key = new Key(event.getStartDateTime(), event.getId());
+            Key previous = keys.put(event.getId(), key);
+            if (previous != null && byStart.remove(previous) != null) {
+                size.decrementAndGet();
+            }
+            if (byStart.put(key, event) == null) {
+                size.incrementAndGet();
+            }
+        }
+
+        synchronized void remove(Long eventId) {
+            Key key = keys.remove(eventId);
+            if (key != null && byStart.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+
+        void evictBefore(LocalDateTime now) {
+            Map.Entry<Key, EventSummary> head;
+            while ((head = byStart.firstEntry()) != null && !head.getKey().start.isAfter(now)) {
+                if (byStart.remove(head.getKey(), head.getValue())) {
+                    keys.remove(head.getKey().id, head.getKey());
+                    size.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    static final class Key implements Comparable<Key> {
+        final LocalDateTime start;
+        final Long id;
+
+        Key(LocalDateTime start, Long id) {
+            this.start = start;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int byStart = start.compareTo(other.start);
+            return byStart != 0 ? byStart : id.compareTo(other.id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && start.equals(other.start) && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * start.hashCode() + id.hashCode();
+        }
+    }
+}
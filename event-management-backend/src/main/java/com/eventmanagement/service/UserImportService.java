@@ -0,0 +1,416 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.config.HibernateCacheConfig;
+import com.eventmanagement.dto.SignupRequest;
+import com.eventmanagement.dto.UserImportReport;
+import com.eventmanagement.dto.UserImportRow;
+import com.eventmanagement.entity.User;
+import com.eventmanagement.security.BoundedPasswordEncoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates user accounts in bulk from a CSV or JSON stream. Rows are read and processed in chunks: one
+ * {@code IN} query finds existing usernames and emails for the whole chunk, passwords are hashed in parallel
+ * and the chunk is written with one JDBC-batched insert.
+ */
+@Service
+public class UserImportService {
+    public enum Format { CSV, JSON }
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (username, email, password, first_name, last_name, phone, role, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Value("${users.import.chunkSize:1000}")
+    private int chunkSize;
+
+    @Value("${users.import.maxRows:200000}")
+    private int maxRows;
+
+    // Separate from the sign-in hashing pool so an import never makes logins fail with 503
+    @Value("${users.import.hashThreads:0}")
+    private int hashThreads;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService hashPool;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (hashThreads <= 0) {
+            hashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        hashPool = Executors.newFixedThreadPool(hashThreads, r -> {
+            Thread t = new Thread(r, "user-import-hashing-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashPool.shutdown();
+    }
+
+    /**
+     * Imports every row, or stops at the row limit or the first unreadable row. Chunks before the stop stay
+     * committed and the stopping row is reported as rejected, with the report marked truncated. Only a stream
+     * whose first row cannot be read fails with an IllegalArgumentException.
+     */
+    public UserImportReport importUsers(InputStream in, Format format) {
+        long start = System.currentTimeMillis();
+        List<UserImportRow> report = new ArrayList<>();
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+
+        Iterator<SignupRequest> rows = format == Format.CSV ? csvRows(in) : jsonRows(in);
+        List<SignupRequest> chunk = new ArrayList<>(chunkSize);
+        UserImportRow stoppedAt = null;
+        int index = 0;
+        try {
+            while (true) {
+                SignupRequest request;
+                try {
+                    if (!rows.hasNext()) {
+                        break;
+                    }
+                    request = rows.next();
+                } catch (RuntimeException e) {
+                    if (index == 0) {
+                        throw new IllegalArgumentException("Import could not be read: " + describe(e));
+                    }
+                    stoppedAt = UserImportRow.rejected(index, null,
+                            "Unreadable row, import stopped here: " + describe(e));
+                    break;
+                }
+                if (index >= maxRows) {
+                    stoppedAt = UserImportRow.rejected(index, request.getUsername(),
+                            "Import is limited to " + maxRows + " rows; this row and any after it were not imported");
+                    break;
+                }
+                chunk.add(request);
+                index++;
+                if (chunk.size() == chunkSize) {
+                    report.addAll(importChunk(index - chunk.size(), chunk, seenUsernames, seenEmails));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                report.addAll(importChunk(index - chunk.size(), chunk, seenUsernames, seenEmails));
+            }
+            if (stoppedAt != null) {
+                report.add(stoppedAt);
+            }
+        } finally {
+            // The JDBC inserts bypass Hibernate, so cached "no such user" lookups would otherwise outlive them
+            entityManager.getEntityManagerFactory().getCache().unwrap(org.hibernate.Cache.class)
+                    .evictQueryRegion(HibernateCacheConfig.USER_QUERIES);
+        }
+        return new UserImportReport(report, stoppedAt != null, System.currentTimeMillis() - start);
+    }
+
+    // Jackson's own message without the source excerpt it appends
+    private static String describe(Exception e) {
+        Throwable cause = e instanceof JsonProcessingException ? e : e.getCause();
+        if (cause instanceof JsonProcessingException json) {
+            return json.getOriginalMessage()
+                    + (json.getLocation() != null ? " (line " + json.getLocation().getLineNr() + ")" : "");
+        }
+        return e.getMessage();
+    }
+
+    private List<UserImportRow> importChunk(int offset, List<SignupRequest> chunk,
+                                            Set<String> seenUsernames, Set<String> seenEmails) {
+        List<UserImportRow> results = new ArrayList<>(chunk.size());
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            SignupRequest request = chunk.get(i);
+            String problem = validate(request);
+            if (problem == null && !seenUsernames.add(key(request.getUsername()))) {
+                problem = "Duplicate username in import";
+            }
+            if (problem == null && !seenEmails.add(key(request.getEmail()))) {
+                problem = "Duplicate email in import";
+            }
+            if (problem != null) {
+                results.add(UserImportRow.rejected(offset + i, request.getUsername(), problem));
+            } else {
+                results.add(new UserImportRow(offset + i, request.getUsername()));
+                accepted.add(i);
+            }
+        }
+        rejectExisting(chunk, results, accepted);
+        if (accepted.isEmpty()) {
+            return results;
+        }
+
+        List<String> hashes = hashAll(chunk, accepted);
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> insertUsers(chunk, accepted, hashes));
+            for (int n = 0; n < accepted.size(); n++) {
+                created(results.get(accepted.get(n)), ids.get(n));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Someone signed up with one of these names after the duplicate check; retry row by row to report it
+            for (int n = 0; n < accepted.size(); n++) {
+                int i = accepted.get(n);
+                List<String> hash = hashes.subList(n, n + 1);
+                try {
+                    List<Long> ids = transactionTemplate.execute(status -> insertUsers(chunk, List.of(i), hash));
+                    created(results.get(i), ids.get(0));
+                } catch (DataIntegrityViolationException rowError) {
+                    results.set(i, UserImportRow.rejected(offset + i, chunk.get(i).getUsername(),
+                            "Username or email is already in use"));
+                }
+            }
+        }
+        return results;
+    }
+
+    private String validate(SignupRequest request) {
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<SignupRequest> first = violations.iterator().next();
+        return first.getPropertyPath() + " " + first.getMessage();
+    }
+
+    // One query per chunk instead of existsByUsername + existsByEmail per row
+    private void rejectExisting(List<SignupRequest> chunk, List<UserImportRow> results, List<Integer> accepted) {
+        if (accepted.isEmpty()) {
+            return;
+        }
+        List<String> usernames = accepted.stream().map(i -> chunk.get(i).getUsername()).toList();
+        List<String> emails = accepted.stream().map(i -> chunk.get(i).getEmail()).toList();
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        for (Object[] row : entityManager.createQuery(
+                        "select u.username, u.email from User u where u.username in :usernames or u.email in :emails",
+                        Object[].class)
+                .setParameter("usernames", usernames)
+                .setParameter("emails", emails)
+                .getResultList()) {
+            takenUsernames.add(key((String) row[0]));
+            takenEmails.add(key((String) row[1]));
+        }
+        accepted.removeIf(i -> {
+            SignupRequest request = chunk.get(i);
+            String problem = takenUsernames.contains(key(request.getUsername())) ? "Username is already taken"
+                    : takenEmails.contains(key(request.getEmail())) ? "Email is already in use" : null;
+            if (problem != null) {
+                UserImportRow row = results.get(i);
+                results.set(i, UserImportRow.rejected(row.getIndex(), row.getUsername(), problem));
+            }
+            return problem != null;
+        });
+    }
+
+    private List<String> hashAll(List<SignupRequest> chunk, List<Integer> accepted) {
+        PasswordEncoder encoder = passwordEncoder instanceof BoundedPasswordEncoder bounded
+                ? bounded.getDelegate() : passwordEncoder;
+        List<CompletableFuture<String>> futures = new ArrayList<>(accepted.size());
+        for (int i : accepted) {
+            String password = chunk.get(i).getPassword();
+            futures.add(CompletableFuture.supplyAsync(() -> encoder.encode(password), hashPool));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private List<Long> insertUsers(List<SignupRequest> chunk, List<Integer> rows, List<String> hashes) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return jdbcTemplate.execute((Connection connection) -> {
+            List<Long> ids = new ArrayList<>(rows.size());
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_USER, Statement.RETURN_GENERATED_KEYS)) {
+                for (int n = 0; n < rows.size(); n++) {
+                    SignupRequest request = chunk.get(rows.get(n));
+                    // Built through the entity constructor so imported users get the same defaults as signups
+                    User user = new User(request.getUsername(), request.getEmail(), hashes.get(n),
+                            request.getFirstName(), request.getLastName());
+                    ps.setString(1, user.getUsername());
+                    ps.setString(2, user.getEmail());
+                    ps.setString(3, user.getPassword());
+                    ps.setString(4, user.getFirstName());
+                    ps.setString(5, user.getLastName());
+                    ps.setString(6, request.getPhone());
+                    ps.setString(7, user.getRole().name());
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+            }
+            return ids;
+        });
+    }
+
+    private static void created(UserImportRow row, Long userId) {
+        row.setOutcome(UserImportRow.Outcome.CREATED);
+        row.setUserId(userId);
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Iterator<SignupRequest> jsonRows(InputStream in) {
+        try {
+            // Accepts a JSON array as well as newline-delimited objects
+            return objectMapper.readerFor(SignupRequest.class).readValues(in);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Import could not be read: " + describe(e));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * CSV with a header row naming the columns (username, email, password, firstName, lastName, phone) in any order.
+     */
+    private Iterator<SignupRequest> csvRows(InputStream in) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header;
+        try {
+            String line = reader.readLine();
+            if (line == null) {
+                return List.<SignupRequest>of().iterator();
+            }
+            header = parseCsvLine(line.startsWith("\uFEFF") ? line.substring(1) : line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Iterator<>() {
+            private String next = readNonBlank(reader);
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public SignupRequest next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                List<String> cells = parseCsvLine(next);
+                next = readNonBlank(reader);
+                SignupRequest request = new SignupRequest();
+                for (int c = 0; c < header.size() && c < cells.size(); c++) {
+                    String value = cells.get(c);
+                    switch (header.get(c).trim()) {
+                        case "username" -> request.setUsername(value);
+                        case "email" -> request.setEmail(value);
+                        case "password" -> request.setPassword(value);
+                        case "firstName" -> request.setFirstName(value);
+                        case "lastName" -> request.setLastName(value);
+                        case "phone" -> request.setPhone(value.isEmpty() ? null : value);
+                        default -> { }
+                    }
+                }
+                return request;
+            }
+        };
+    }
+
+    private static String readNonBlank(BufferedReader reader) {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null && line.isBlank()) {
+                // skip empty lines
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<String> parseCsvLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char ch = line.charAt(i);
+            if (quoted) {
+                if (ch == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (ch == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(ch);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
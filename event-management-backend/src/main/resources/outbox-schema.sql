@@ -0,0 +1,41 @@
+-- Transactional outbox, booking audit trail and token revocations. Also part of mysql-setup.sql; the load-test
+-- profile applies this file to its embedded database after Hibernate has created the entity tables.
+
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    message_type VARCHAR(50) NOT NULL,
+    handler VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    available_at DATETIME NOT NULL,
+    claimed_by VARCHAR(36),
+    claimed_until DATETIME,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_outbox_due (status, available_at),
+    INDEX idx_outbox_claim (claimed_by)
+);
+
+CREATE TABLE IF NOT EXISTS booking_audit (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    message_id BIGINT NOT NULL UNIQUE,
+    message_type VARCHAR(50) NOT NULL,
+    booking_id BIGINT NOT NULL,
+    event_id BIGINT,
+    user_id BIGINT,
+    booking_status VARCHAR(20),
+    number_of_tickets INT,
+    total_amount DECIMAL(10,2),
+    recorded_at DATETIME NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    INDEX idx_booking_audit_booking (booking_id)
+);
+
+CREATE TABLE IF NOT EXISTS token_revocations (
+    user_id BIGINT PRIMARY KEY,
+    revoked_at BIGINT NOT NULL,
+    INDEX idx_token_revocations_revoked (revoked_at)
+);
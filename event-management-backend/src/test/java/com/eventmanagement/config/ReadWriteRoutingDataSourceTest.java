@@ -0,0 +1,149 @@
+package com.eventmanagement.config;
+
+import com.eventmanagement.security.UserDetailsImpl;
+import com.eventmanagement.service.ReadYourWritesTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes real transactions across two embedded databases, each of which names itself, wired the way
+ * ReplicaDataSourceConfig wires the production pools.
+ */
+class ReadWriteRoutingDataSourceTest {
+    private static final String LAG_QUERY = "SELECT lag AS Seconds_Behind_Source FROM replica_status";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWritesTracker readYourWrites;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_status (lag BIGINT)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_status VALUES (0)");
+
+        lagMonitor = new ReplicaLagMonitor(replica, LAG_QUERY, "Seconds_Behind_Source", 5);
+        lagMonitor.check();
+        readYourWrites = new ReadYourWritesTracker();
+        ReflectionTestUtils.setField(readYourWrites, "stickinessMs", 60_000L);
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, lagMonitor,
+                readYourWrites);
+        routing.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertEquals("replica", readOnly.execute(status -> serverName()));
+    }
+
+    @Test
+    void readWriteTransactionsUseThePrimary() {
+        assertEquals("primary", readWrite.execute(status -> {
+            jdbcTemplate.update("INSERT INTO writes (note) VALUES ('booked')");
+            return serverName();
+        }));
+        assertEquals(1, new JdbcTemplate(primary).queryForObject("SELECT COUNT(*) FROM writes", Integer.class));
+        assertEquals(0, new JdbcTemplate(replica).queryForObject("SELECT COUNT(*) FROM writes", Integer.class));
+    }
+
+    @Test
+    void workOutsideTransactionsUsesThePrimary() {
+        assertEquals("primary", serverName());
+    }
+
+    @Test
+    void usersWhoJustWroteReadTheirWritesFromThePrimary() {
+        signIn(1L);
+        readYourWrites.markWrite(1L);
+        assertEquals("primary", readOnly.execute(status -> serverName()));
+
+        // Other users are unaffected
+        signIn(2L);
+        assertEquals("replica", readOnly.execute(status -> serverName()));
+    }
+
+    @Test
+    void stickinessEndsWithItsWindow() {
+        ReflectionTestUtils.setField(readYourWrites, "stickinessMs", -1L);
+        signIn(1L);
+        readYourWrites.markWrite(1L);
+        assertEquals("replica", readOnly.execute(status -> serverName()));
+    }
+
+    @Test
+    void laggingReplicaIsTakenOutOfRotation() {
+        new JdbcTemplate(replica).update("UPDATE replica_status SET lag = 30");
+        lagMonitor.check();
+        assertEquals("primary", readOnly.execute(status -> serverName()));
+
+        new JdbcTemplate(replica).update("UPDATE replica_status SET lag = 1");
+        lagMonitor.check();
+        assertEquals("replica", readOnly.execute(status -> serverName()));
+    }
+
+    @Test
+    void unreachableReplicaIsTakenOutOfRotation() {
+        replica.shutdown();
+        lagMonitor.check();
+        assertEquals("primary", readOnly.execute(status -> serverName()));
+    }
+
+    private String serverName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM server", String.class);
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE server (name VARCHAR(20))");
+        jdbc.execute("CREATE TABLE writes (note VARCHAR(20))");
+        jdbc.update("INSERT INTO server VALUES (?)", name);
+        return database;
+    }
+
+    private static void signIn(Long userId) {
+        UserDetailsImpl user = new UserDetailsImpl(userId, "user" + userId, "user" + userId + "@test.local", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,126 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.dto.BookingSummary;
+import com.eventmanagement.dto.CursorPage;
+import com.eventmanagement.dto.EventSummary;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Listing endpoints must cost a fixed number of SQL statements per page, however many events, categories,
+ * organizers and buyers the page touches.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ListingStatementCountTest {
+    private static final int EVENTS = 30;
+    private static final int PAGE_SIZE = 10;
+
+    @Configuration
+    @EntityScan("com.eventmanagement.entity")
+    @Import({ReadModelService.class, KeysetPaginationService.class})
+    static class Config {
+    }
+
+    @Autowired
+    private ReadModelService readModels;
+
+    @Autowired
+    private KeysetPaginationService keysetPagination;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (long id = 1; id <= 3; id++) {
+            insert("insert into users (id, username, email, password, first_name, last_name, role, created_at, " +
+                    "updated_at) values (?, ?, ?, 'x', 'First', 'Last', 'USER', ?, ?)",
+                    id, "user" + id, "user" + id + "@test.local", now, now);
+            insert("insert into categories (id, name, description, created_at, updated_at) values (?, ?, '', ?, ?)",
+                    id, "Category " + id, now, now);
+        }
+        for (long id = 1; id <= EVENTS; id++) {
+            Timestamp start = Timestamp.valueOf(LocalDateTime.now().plusDays(id));
+            insert("insert into events (id, title, description, start_date_time, end_date_time, location, " +
+                    "max_attendees, ticket_price, status, organizer_id, category_id, created_at, updated_at) " +
+                    "values (?, ?, '', ?, ?, 'Somewhere', 100, 10.00, 'PUBLISHED', ?, ?, ?, ?)",
+                    id, "Event " + id, start, start, 1 + id % 3, 1 + id % 3, now, now);
+            insert("insert into bookings (id, number_of_tickets, total_amount, status, booking_date, user_id, " +
+                    "event_id, created_at, updated_at) values (?, 1, 10.00, 'PENDING', ?, ?, ?, ?, ?)",
+                    id, start, 1 + id % 3, id, now, now);
+        }
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void eventCursorPagesAreOneStatementEach() {
+        CursorPage<EventSummary> first = keysetPagination.seekEvents(null, Map.of(), "startDateTime", false, "",
+                PAGE_SIZE);
+        assertEquals(PAGE_SIZE, first.getContent().size());
+        assertNotNull(first.getContent().get(0).getOrganizer());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        CursorPage<EventSummary> second = keysetPagination.seekEvents(null, Map.of(), "startDateTime", false,
+                first.getNextCursor(), PAGE_SIZE);
+        assertEquals(PAGE_SIZE, second.getContent().size());
+        assertTrue(second.getContent().get(0).getStartDateTime()
+                .isAfter(first.getContent().get(PAGE_SIZE - 1).getStartDateTime()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void bookingCursorPageIsOneStatement() {
+        CursorPage<BookingSummary> page = keysetPagination.seekBookings(null, Map.of(), "bookingDate", true, "",
+                PAGE_SIZE);
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void pagedListingIsSelectPlusCount() {
+        Page<EventSummary> events = readModels.getAllEvents(PageRequest.of(1, PAGE_SIZE, Sort.by("startDateTime")));
+        assertEquals(EVENTS, events.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        Page<BookingSummary> bookings = readModels.getAllBookings(PageRequest.of(1, PAGE_SIZE, Sort.by("bookingDate")));
+        assertEquals(EVENTS, bookings.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private void insert(String sql, Object... values) {
+        var query = entityManager.createNativeQuery(sql);
+        for (int i = 0; i < values.length; i++) {
+            query.setParameter(i + 1, values[i]);
+        }
+        query.executeUpdate();
+    }
+}
@@ -0,0 +1,169 @@
+package com.eventmanagement.service;
+
+import com.eventmanagement.entity.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Hammers one event's counter from many threads, with reconciliation running alongside, and checks that
+ * seats handed out never exceed the capacity.
+ */
+class SeatInventoryServiceConcurrencyTest {
+    private static final long EVENT_ID = 1L;
+    private static final int CAPACITY = 1_000;
+    private static final int THREADS = 16;
+    private static final int OPERATIONS_PER_THREAD = 20_000;
+
+    // Seats of stored, not cancelled bookings: what the database would count
+    private final AtomicInteger sold = new AtomicInteger();
+    private SeatInventoryService inventory;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        TypedQuery<Number> countQuery = mock(TypedQuery.class, withSettings().stubOnly());
+        when(countQuery.setParameter(anyString(), any())).thenReturn(countQuery);
+        when(countQuery.getSingleResult()).thenAnswer(invocation -> sold.get());
+        EntityManager entityManager = mock(EntityManager.class, withSettings().stubOnly());
+        when(entityManager.createQuery(anyString(), eq(Number.class))).thenReturn(countQuery);
+
+        inventory = new SeatInventoryService();
+        ReflectionTestUtils.setField(inventory, "entityManager", entityManager);
+        ReflectionTestUtils.setField(inventory, "eventCache",
+                mock(EventResponseCache.class, withSettings().stubOnly()));
+        ReflectionTestUtils.setField(inventory, "availability",
+                mock(SeatAvailabilityPublisher.class, withSettings().stubOnly()));
+        ReflectionTestUtils.setField(inventory, "transactionManager",
+                mock(PlatformTransactionManager.class, withSettings().stubOnly()));
+        inventory.init();
+    }
+
+    @Test
+    void neverOversellsUnderContention() throws Exception {
+        Event event = event(CAPACITY);
+        AtomicInteger handedOut = new AtomicInteger();
+        AtomicInteger maxHandedOut = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        int seats = 1 + random.nextInt(4);
+                        if (!inventory.tryReserve(event, seats)) {
+                            continue;
+                        }
+                        maxHandedOut.accumulateAndGet(handedOut.addAndGet(seats), Math::max);
+                        int outcome = random.nextInt(10);
+                        if (outcome < 2) {
+                            // The booking insert failed
+                            handedOut.addAndGet(-seats);
+                            inventory.release(event, seats, false);
+                        } else {
+                            sold.addAndGet(seats);
+                            inventory.commit(event, seats);
+                            if (outcome < 5) {
+                                // Cancelled later: the database changes before the seats come back
+                                sold.addAndGet(-seats);
+                                handedOut.addAndGet(-seats);
+                                inventory.release(EVENT_ID, seats, true);
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            Future<?> reconciler = pool.submit(() -> {
+                start.await();
+                while (running.get()) {
+                    inventory.reconcile();
+                    // Far more often than in production, but still well apart from one booking's own steps
+                    Thread.sleep(10);
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(2, TimeUnit.MINUTES);
+            }
+            running.set(false);
+            reconciler.get(1, TimeUnit.MINUTES);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertTrue(maxHandedOut.get() <= CAPACITY, "oversold: " + maxHandedOut.get() + " seats handed out");
+        assertEquals(sold.get(), handedOut.get());
+        assertEquals(CAPACITY - sold.get(), inventory.getRemainingSeats(event));
+
+        // With the counter quiet and accurate, reconciliation has nothing to correct
+        inventory.reconcile();
+        inventory.reconcile();
+        assertEquals(CAPACITY - sold.get(), inventory.getRemainingSeats(event));
+    }
+
+    @Test
+    void reconcileCorrectsDriftOnlyOnceConfirmed() {
+        Event event = event(100);
+        assertEquals(100, inventory.getRemainingSeats(event));
+
+        // Another node sold 10 seats
+        sold.addAndGet(10);
+        inventory.reconcile();
+        assertEquals(100, inventory.getRemainingSeats(event));
+        inventory.reconcile();
+        assertEquals(90, inventory.getRemainingSeats(event));
+    }
+
+    @Test
+    void resizeKeepsInFlightReservationsOnTheirCounter() {
+        Event event = event(100);
+        assertTrue(inventory.tryReserve(event, 10));
+
+        Event resized = event(50);
+        inventory.resize(resized);
+        assertEquals(40, inventory.getRemainingSeats(resized));
+
+        sold.addAndGet(10);
+        inventory.commit(resized, 10);
+        inventory.reconcile();
+        inventory.reconcile();
+        assertEquals(40, inventory.getRemainingSeats(resized));
+    }
+
+    private static Event event(int capacity) {
+        Event event = mock(Event.class, withSettings().stubOnly());
+        when(event.getId()).thenReturn(EVENT_ID);
+        when(event.getMaxAttendees()).thenReturn(capacity);
+        return event;
+    }
+}
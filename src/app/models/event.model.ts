@@ -54,6 +54,11 @@ export enum BookingStatus {
   REFUNDED = 'REFUNDED'
 }
 
+export interface SeatAvailability {
+  eventId: number;
+  remainingSeats: number | null;
+}
+
 export interface CreateEventRequest {
   title: string;
   description: string;
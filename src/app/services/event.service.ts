@@ -1,7 +1,7 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Event, CreateEventRequest, EventStatus } from '../models/event.model';
+import { Event, CreateEventRequest, EventStatus, SeatAvailability } from '../models/event.model';
 import { environment } from '../../environments/environment';
 
 @Injectable({
@@ -43,6 +43,16 @@ export class EventService {
     return this.http.get<Event>(`${this.apiUrl}/events/${id}`);
   }
 
+  // Live remaining seats over Server-Sent Events; the browser reconnects by itself if the stream drops.
+  // Unsubscribing closes the connection.
+  streamAvailability(id: number): Observable<SeatAvailability> {
+    return new Observable<SeatAvailability>(subscriber => {
+      const source = new EventSource(`${this.apiUrl}/events/${id}/availability/stream`);
+      source.addEventListener('availability', (message: MessageEvent) => subscriber.next(JSON.parse(message.data)));
+      return () => source.close();
+    });
+  }
+
   // Admin only: get pending events for moderation
   getPendingEvents(page: number = 0, size: number = 20, sortBy: string = 'createdAt', sortDir: string = 'desc'): Observable<any> {
     let params = new HttpParams()